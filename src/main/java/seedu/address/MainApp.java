@@ -3,10 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.CommandServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -16,15 +19,23 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ConcurrentModel;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.OrderArchive;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.ArchivingAddressBookStorage;
+import seedu.address.storage.AutosavingAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonOrderArchive;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SplitJsonAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -46,6 +57,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private OrderArchive orderArchive = OrderArchive.EMPTY;
+    private Optional<CommandServer> commandServer = Optional.empty();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,18 +70,91 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // Commands may run off the JavaFX application thread, so the lists shown by the UI are updated on it
+        model = new ConcurrentModel(initModelManager(storage, userPrefs), MainApp::runOnFxThread);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the file in {@code userPrefs}, in the format set in {@code config},
+     * archiving old orders and saving in the background if {@code config} says so.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using storage format : " + config.getStorageFormat());
+
+        AddressBookStorage addressBookStorage;
+        switch (config.getStorageFormat()) {
+        case JOURNAL:
+            addressBookStorage = new JournaledAddressBookStorage(addressBookFilePath,
+                    config.getJournalCompactionThreshold());
+            break;
+        case SPLIT:
+            addressBookStorage = new SplitJsonAddressBookStorage(addressBookFilePath.toAbsolutePath().getParent());
+            break;
+        case BINARY:
+            addressBookStorage = new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath), addressBookFilePath);
+            break;
+        default:
+            if (config.isParallelLoadEnabled()) {
+                logger.info("Converting the records of the data file in parallel while loading");
+                addressBookStorage = new JsonAddressBookStorage(addressBookFilePath,
+                        Optional.of(ForkJoinPool.commonPool()));
+            } else {
+                addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+            }
+        }
+
+        if (config.isOrderArchiveEnabled()) {
+            logger.info("Archiving orders completed more than " + config.getOrderArchiveAgeDays() + " days ago");
+            JsonOrderArchive archive = new JsonOrderArchive(JsonOrderArchive.getArchiveFilePath(addressBookFilePath));
+            addressBookStorage = new ArchivingAddressBookStorage(addressBookStorage, archive,
+                    config.getOrderArchiveAgeDays());
+            orderArchive = archive;
+        }
+
+        if (config.isAutosaveEnabled()) {
+            if (config.getStorageFormat() == Config.StorageFormat.JOURNAL) {
+                logger.info("Autosave is not used with the journal, which only appends the changes of each save");
+                return addressBookStorage;
+            }
+            logger.info("Saving the data file in the background");
+            return new AutosavingAddressBookStorage(addressBookStorage, config.getAutosaveQuietPeriodMillis(),
+                    config.getAutosaveMaxDelayMillis(), this::handleAutosaveFailure);
+        }
+        return addressBookStorage;
+    }
+
+    /**
+     * Reports a failed background save of the data file to the user.
+     */
+    private void handleAutosaveFailure(IOException e) {
+        logger.warning("Failed to save data file in the background : " + StringUtil.getDetails(e));
+        if (ui != null) {
+            ui.showError("Could not save data", LogicManager.FILE_OPS_ERROR_MESSAGE + e);
+        }
+    }
+
+    /**
+     * Runs {@code update} on the JavaFX application thread, right away if already on it.
+     */
+    private static void runOnFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -90,7 +177,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, orderArchive);
     }
 
     private void initLogging(Config config) {
@@ -169,11 +256,37 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        startCommandServer(config);
+    }
+
+    /**
+     * Starts serving commands and queries over HTTP if the command API is enabled in {@code config}.
+     * The app still starts if the server cannot be started, e.g. because the port is taken.
+     */
+    private void startCommandServer(Config config) {
+        if (!config.isCommandApiEnabled()) {
+            return;
+        }
+        try {
+            CommandServer server = new CommandServer(logic, model, config.getCommandApiPort(),
+                    Runtime.getRuntime().availableProcessors());
+            server.start();
+            commandServer = Optional.of(server);
+        } catch (IOException e) {
+            logger.warning("Failed to start the command API at port " + config.getCommandApiPort() + ": "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        commandServer.ifPresent(CommandServer::stop);
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,217 @@
+package seedu.address.api;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.api.exceptions.RequestException;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Serves the commands and queries of the address book over HTTP, to clients on the same machine only.
+ * <ul>
+ *     <li>{@code POST /commands} runs the command in the body, as it would be typed into the command box.</li>
+ *     <li>{@code POST /queries} answers the JSON query in the body, see {@link QueryHandler}.</li>
+ * </ul>
+ * Commands are run one at a time, in the order they arrive, on a single worker thread. They see the effects of the
+ * commands run before them at once, whether those came from the API or the UI, so an index in a command refers to the
+ * list as filtered by the last command run, and not to the list the UI displays. Queries only read the model,
+ * so they are answered on a pool of worker threads at once. Each pool queues at most {@link #QUEUE_CAPACITY}
+ * requests, and answers any more with 503 until it catches up.
+ * Every response is a JSON object, with an {@code error} field if the request failed, and reports the time taken to
+ * answer the request, including the time spent queued, in the {@value #LATENCY_HEADER} header and the
+ * {@code latencyMicros} field.
+ */
+public class CommandServer {
+
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String QUERIES_PATH = "/queries";
+    public static final String LATENCY_HEADER = "X-Latency-Micros";
+    public static final int QUEUE_CAPACITY = 256;
+
+    public static final String MESSAGE_BUSY = "The server is busy, try again later";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Only POST requests are accepted";
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at this path";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Logic logic;
+    private final QueryHandler queryHandler;
+    private final HttpServer server;
+    private final ThreadPoolExecutor commandExecutor;
+    private final ThreadPoolExecutor queryExecutor;
+
+    /**
+     * Creates a {@code CommandServer} for {@code logic} and {@code model} on the loopback address at {@code port},
+     * or at any free port if it is 0, answering queries on {@code queryThreads} threads.
+     * {@code model} is read from several threads at once, so it must be safe to use from any thread.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public CommandServer(Logic logic, Model model, int port, int queryThreads) throws IOException {
+        requireAllNonNull(logic, model);
+        this.logic = logic;
+        queryHandler = new QueryHandler(model);
+        commandExecutor = newBoundedExecutor(1, "api-command");
+        queryExecutor = newBoundedExecutor(queryThreads, "api-query");
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(COMMANDS_PATH, exchange -> dispatch(exchange, commandExecutor, this::runCommand));
+        server.createContext(QUERIES_PATH, exchange -> dispatch(exchange, queryExecutor, queryHandler::answer));
+        // The server thread only hands each request over to a worker pool, which does the rest
+        server.setExecutor(Runnable::run);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Command API listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and stops the worker threads once the requests already accepted are answered.
+     */
+    public void stop() {
+        server.stop(0);
+        commandExecutor.shutdown();
+        queryExecutor.shutdown();
+    }
+
+    /**
+     * Returns the port the server listens at.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static ThreadPoolExecutor newBoundedExecutor(int threads, String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), threadFactory);
+    }
+
+    private Map<String, Object> runCommand(String commandText) throws RequestException {
+        try {
+            CommandResult result = logic.execute(commandText.trim());
+            Map<String, Object> answer = new LinkedHashMap<>();
+            answer.put("feedback", result.getFeedbackToUser());
+            return answer;
+        } catch (CommandException | ParseException e) {
+            throw new RequestException(HTTP_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Hands {@code exchange} over to {@code executor} to be answered by {@code handler}, or answers it with 503 at
+     * once if {@code executor} has too many requests queued.
+     */
+    private void dispatch(HttpExchange exchange, ExecutorService executor, RequestHandler handler) {
+        long startNanos = System.nanoTime();
+        try {
+            executor.execute(() -> handle(exchange, handler, startNanos));
+        } catch (RejectedExecutionException e) {
+            respond(exchange, HTTP_UNAVAILABLE, errorOf(MESSAGE_BUSY), startNanos);
+        }
+    }
+
+    private void handle(HttpExchange exchange, RequestHandler handler, long startNanos) {
+        try {
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                throw new RequestException(HTTP_NOT_FOUND, MESSAGE_NOT_FOUND);
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                throw new RequestException(HTTP_BAD_METHOD, MESSAGE_METHOD_NOT_ALLOWED);
+            }
+            Map<String, Object> answer = handler.handle(readBody(exchange));
+            respond(exchange, HTTP_OK, answer, startNanos);
+        } catch (RequestException e) {
+            respond(exchange, e.getStatusCode(), errorOf(e.getMessage()), startNanos);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to answer " + exchange.getRequestURI() + ": " + e);
+            respond(exchange, HTTP_INTERNAL_ERROR, errorOf(e.toString()), startNanos);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, Object> errorOf(String message) {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        answer.put("error", message);
+        return answer;
+    }
+
+    /**
+     * Sends {@code answer} with {@code statusCode}, along with the time since {@code startNanos}, and closes
+     * {@code exchange}.
+     */
+    private static void respond(HttpExchange exchange, int statusCode, Map<String, Object> answer, long startNanos) {
+        try {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            answer.put("latencyMicros", latencyMicros);
+            byte[] body = JsonUtil.toJsonString(answer).getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().set(LATENCY_HEADER, Long.toString(latencyMicros));
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            logger.fine(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " answered with "
+                    + statusCode + " in " + latencyMicros + "us");
+        } catch (IOException e) {
+            logger.warning("Failed to respond to " + exchange.getRequestURI() + ": " + e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers the body of a request.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Map<String, Object> handle(String body) throws RequestException;
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and latency of a running {@link CommandServer} by sending it the same request many times
+ * from several threads at once.
+ * <p>
+ * Usage: {@code LoadTestClient PORT REQUESTS CONCURRENCY [commands|queries] [BODY]}
+ * <br>
+ * By default, {@code {"type": "stock"}} is sent to {@value CommandServer#QUERIES_PATH}.
+ */
+public class LoadTestClient {
+
+    public static final String DEFAULT_QUERY = "{\"type\": \"stock\"}";
+
+    private static final String MESSAGE_USAGE = "Usage: LoadTestClient PORT REQUESTS CONCURRENCY "
+            + "[commands|queries] [BODY]";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI uri;
+    private final String body;
+
+    /**
+     * Creates a {@code LoadTestClient} that sends {@code body} to {@code path} of the server at {@code port} on the
+     * loopback address.
+     */
+    public LoadTestClient(int port, String path, String body) {
+        this.uri = URI.create("http://127.0.0.1:" + port + path);
+        this.body = body;
+    }
+
+    /**
+     * Sends {@code requests} requests, from {@code concurrency} threads at once, and returns what was measured.
+     */
+    public Report run(int requests, int concurrency) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Sample>> futures = new ArrayList<>(requests);
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(this::send));
+            }
+
+            List<Sample> samples = new ArrayList<>(requests);
+            for (Future<Sample> future : futures) {
+                try {
+                    samples.add(future.get());
+                } catch (ExecutionException e) {
+                    samples.add(Sample.failed());
+                }
+            }
+            return new Report(samples, System.nanoTime() - startNanos);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Sample send() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long startNanos = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long latencyNanos = System.nanoTime() - startNanos;
+
+        long serverLatencyMicros = response.headers().firstValueAsLong(CommandServer.LATENCY_HEADER).orElse(0);
+        return new Sample(response.statusCode(), latencyNanos, serverLatencyMicros);
+    }
+
+    /**
+     * Runs the load test described by {@code args}, see {@link LoadTestClient}, and prints its report.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        int port = Integer.parseInt(args[0]);
+        int requests = Integer.parseInt(args[1]);
+        int concurrency = Integer.parseInt(args[2]);
+        boolean isCommand = args.length > 3 && args[3].equals("commands");
+        String path = isCommand ? CommandServer.COMMANDS_PATH : CommandServer.QUERIES_PATH;
+        String body = args.length > 4 ? args[4] : (isCommand ? "list" : DEFAULT_QUERY);
+
+        System.out.println(new LoadTestClient(port, path, body).run(requests, concurrency));
+    }
+
+    /**
+     * The outcome of a single request.
+     */
+    private static class Sample {
+        private final int statusCode;
+        private final long latencyNanos;
+        private final long serverLatencyMicros;
+
+        Sample(int statusCode, long latencyNanos, long serverLatencyMicros) {
+            this.statusCode = statusCode;
+            this.latencyNanos = latencyNanos;
+            this.serverLatencyMicros = serverLatencyMicros;
+        }
+
+        static Sample failed() {
+            return new Sample(-1, 0, 0);
+        }
+
+        boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+    }
+
+    /**
+     * What was measured by a load test.
+     */
+    public static class Report {
+        private final int requests;
+        private final int errors;
+        private final double throughput;
+        private final List<Long> latenciesMicros;
+        private final double meanServerLatencyMicros;
+
+        private Report(List<Sample> samples, long elapsedNanos) {
+            requests = samples.size();
+            errors = (int) samples.stream().filter(sample -> !sample.isSuccessful()).count();
+            throughput = requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+
+            latenciesMicros = new ArrayList<>();
+            samples.stream().filter(Sample::isSuccessful)
+                    .forEach(sample -> latenciesMicros.add(TimeUnit.NANOSECONDS.toMicros(sample.latencyNanos)));
+            Collections.sort(latenciesMicros);
+            meanServerLatencyMicros = samples.stream().filter(Sample::isSuccessful)
+                    .mapToLong(sample -> sample.serverLatencyMicros).average().orElse(0);
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        /**
+         * Returns the number of requests that failed, or were not answered with a 2xx status code.
+         */
+        public int getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the number of requests answered per second.
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        /**
+         * Returns the latency, as seen by the client, under which {@code percentile} percent of the successful
+         * requests were answered, or 0 if no request succeeded.
+         */
+        public long getLatencyMicros(double percentile) {
+            if (latenciesMicros.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latenciesMicros.size()) - 1;
+            return latenciesMicros.get(Math.max(0, Math.min(index, latenciesMicros.size() - 1)));
+        }
+
+        /**
+         * Returns the mean latency of the successful requests as reported by the server.
+         */
+        public double getMeanServerLatencyMicros() {
+            return meanServerLatencyMicros;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Requests: %d, errors: %d, throughput: %.1f/s%n"
+                            + "Client latency (us): p50 %d, p95 %d, p99 %d, max %d%n"
+                            + "Mean server latency (us): %.1f",
+                    requests, errors, throughput, getLatencyMicros(50), getLatencyMicros(95), getLatencyMicros(99),
+                    getLatencyMicros(100), meanServerLatencyMicros);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.api;
+
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.api.exceptions.RequestException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AbstractId;
+import seedu.address.model.Model;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.Order;
+
+/**
+ * Answers the JSON queries of the command API by reading the model, without going through a command.
+ * The model is only read, so queries can be answered on several threads at once.
+ */
+class QueryHandler {
+
+    public static final String TYPE_CUSTOMER = "customer";
+    public static final String TYPE_ORDERS = "orders";
+    public static final String TYPE_STOCK = "stock";
+
+    public static final String MESSAGE_INVALID_JSON = "The query is not valid JSON: %1$s";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown query type. Use one of: " + TYPE_CUSTOMER + ", "
+            + TYPE_ORDERS + ", " + TYPE_STOCK;
+    public static final String MESSAGE_MISSING_ID = "The " + TYPE_CUSTOMER + " and " + TYPE_ORDERS
+            + " queries need the id of a customer";
+    public static final String MESSAGE_CUSTOMER_NOT_FOUND = "There is no customer with id %1$s";
+
+    private final Model model;
+
+    QueryHandler(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the answer to the query in {@code json}.
+     *
+     * @throws RequestException if the query is invalid, or asks for a customer that does not exist.
+     */
+    Map<String, Object> answer(String json) throws RequestException {
+        QueryRequest request;
+        try {
+            request = JsonUtil.fromJsonString(json, QueryRequest.class);
+        } catch (IOException e) {
+            throw new RequestException(HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_JSON, e.getMessage()));
+        }
+
+        Map<String, Object> answer = new LinkedHashMap<>();
+        String type = Optional.ofNullable(request.getType()).orElse("");
+        switch (type) {
+        case TYPE_CUSTOMER:
+            CustomerId customerId = parseCustomerId(request);
+            Customer customer = model.findCustomerById(customerId).orElseThrow(() ->
+                    new RequestException(HTTP_NOT_FOUND, String.format(MESSAGE_CUSTOMER_NOT_FOUND, customerId)));
+            answer.put("customer", toMap(customer));
+            break;
+        case TYPE_ORDERS:
+            List<Map<String, Object>> orders = new ArrayList<>();
+            for (Order order : model.getOrdersOfCustomer(parseCustomerId(request))) {
+                orders.add(toMap(order));
+            }
+            answer.put("orders", orders);
+            break;
+        case TYPE_STOCK:
+            answer.put("stock", getStock(request.getCheeseType()));
+            break;
+        default:
+            throw new RequestException(HTTP_BAD_REQUEST, MESSAGE_UNKNOWN_TYPE);
+        }
+        return answer;
+    }
+
+    private static CustomerId parseCustomerId(QueryRequest request) throws RequestException {
+        Integer id = request.getId();
+        if (id == null) {
+            throw new RequestException(HTTP_BAD_REQUEST, MESSAGE_MISSING_ID);
+        }
+        if (!AbstractId.isValidId(id)) {
+            throw new RequestException(HTTP_BAD_REQUEST, AbstractId.MESSAGE_CONSTRAINTS);
+        }
+        return new CustomerId(id);
+    }
+
+    /**
+     * Returns the stock of each cheese type as of now, or only of {@code cheeseType} if it is given.
+     */
+    private Map<String, Object> getStock(String cheeseType) throws RequestException {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> stock = new TreeMap<>();
+        if (cheeseType == null) {
+            model.getStock(now).forEach((type, count) -> stock.put(type.toString(), toMap(count)));
+            return stock;
+        }
+
+        if (!CheeseType.isValidType(cheeseType)) {
+            throw new RequestException(HTTP_BAD_REQUEST, CheeseType.MESSAGE_CONSTRAINTS);
+        }
+        CheeseType type = CheeseType.getCheeseType(cheeseType);
+        stock.put(type.toString(), toMap(model.getStock(type, now)));
+        return stock;
+    }
+
+    private static Map<String, Object> toMap(Customer customer) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", customer.getId().value);
+        map.put("name", customer.getName().fullName);
+        map.put("phone", customer.getPhone().value);
+        map.put("email", customer.getEmail().value);
+        map.put("address", customer.getAddress().value);
+        map.put("tags", customer.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList()));
+        return map;
+    }
+
+    private static Map<String, Object> toMap(Order order) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", order.getOrderId().value);
+        map.put("customerId", order.getCustomerId().value);
+        map.put("cheeseType", order.getCheeseType().toString());
+        map.put("quantity", order.getQuantity().value);
+        map.put("orderDate", order.getOrderDate().toString());
+        map.put("completedDate", order.getCompletedDate() == null ? null : order.getCompletedDate().toString());
+        map.put("cheeses", order.getCheeses().stream().map(id -> id.value).sorted().collect(Collectors.toList()));
+        return map;
+    }
+
+    private static Map<String, Object> toMap(StockCount count) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("available", count.available);
+        map.put("reserved", count.reserved);
+        map.put("expired", count.expired);
+        return map;
+    }
+}
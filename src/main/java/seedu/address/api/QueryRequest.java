@@ -0,0 +1,23 @@
+package seedu.address.api;
+
+/**
+ * A query to the command API, as read from its JSON body, such as {@code {"type": "customer", "id": 3}}.
+ * Fields that a type of query does not use are ignored.
+ */
+class QueryRequest {
+    private String type;
+    private Integer id;
+    private String cheeseType;
+
+    String getType() {
+        return type;
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    String getCheeseType() {
+        return cheeseType;
+    }
+}
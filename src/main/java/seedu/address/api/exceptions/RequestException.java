@@ -0,0 +1,17 @@
+package seedu.address.api.exceptions;
+
+/**
+ * Represents a request to the command API that cannot be answered, with the HTTP status to answer it with.
+ */
+public class RequestException extends Exception {
+    private final int statusCode;
+
+    public RequestException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
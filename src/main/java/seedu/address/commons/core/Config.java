@@ -15,6 +15,16 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int journalCompactionThreshold = 1000;
+    private boolean autosaveEnabled = false;
+    private long autosaveQuietPeriodMillis = 500;
+    private long autosaveMaxDelayMillis = 5000;
+    private boolean orderArchiveEnabled = false;
+    private int orderArchiveAgeDays = 90;
+    private boolean parallelLoadEnabled = false;
+    private boolean commandApiEnabled = false;
+    private int commandApiPort = 8765;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +42,86 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public boolean isAutosaveEnabled() {
+        return autosaveEnabled;
+    }
+
+    public void setAutosaveEnabled(boolean autosaveEnabled) {
+        this.autosaveEnabled = autosaveEnabled;
+    }
+
+    public long getAutosaveQuietPeriodMillis() {
+        return autosaveQuietPeriodMillis;
+    }
+
+    public void setAutosaveQuietPeriodMillis(long autosaveQuietPeriodMillis) {
+        this.autosaveQuietPeriodMillis = autosaveQuietPeriodMillis;
+    }
+
+    public long getAutosaveMaxDelayMillis() {
+        return autosaveMaxDelayMillis;
+    }
+
+    public void setAutosaveMaxDelayMillis(long autosaveMaxDelayMillis) {
+        this.autosaveMaxDelayMillis = autosaveMaxDelayMillis;
+    }
+
+    public boolean isOrderArchiveEnabled() {
+        return orderArchiveEnabled;
+    }
+
+    public void setOrderArchiveEnabled(boolean orderArchiveEnabled) {
+        this.orderArchiveEnabled = orderArchiveEnabled;
+    }
+
+    public int getOrderArchiveAgeDays() {
+        return orderArchiveAgeDays;
+    }
+
+    public void setOrderArchiveAgeDays(int orderArchiveAgeDays) {
+        this.orderArchiveAgeDays = orderArchiveAgeDays;
+    }
+
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean parallelLoadEnabled) {
+        this.parallelLoadEnabled = parallelLoadEnabled;
+    }
+
+    public boolean isCommandApiEnabled() {
+        return commandApiEnabled;
+    }
+
+    public void setCommandApiEnabled(boolean commandApiEnabled) {
+        this.commandApiEnabled = commandApiEnabled;
+    }
+
+    public int getCommandApiPort() {
+        return commandApiPort;
+    }
+
+    public void setCommandApiPort(int commandApiPort) {
+        this.commandApiPort = commandApiPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +134,24 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && storageFormat == o.storageFormat
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && autosaveEnabled == o.autosaveEnabled
+                && autosaveQuietPeriodMillis == o.autosaveQuietPeriodMillis
+                && autosaveMaxDelayMillis == o.autosaveMaxDelayMillis
+                && orderArchiveEnabled == o.orderArchiveEnabled
+                && orderArchiveAgeDays == o.orderArchiveAgeDays
+                && parallelLoadEnabled == o.parallelLoadEnabled
+                && commandApiEnabled == o.commandApiEnabled
+                && commandApiPort == o.commandApiPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageFormat, journalCompactionThreshold, autosaveEnabled,
+                autosaveQuietPeriodMillis, autosaveMaxDelayMillis, orderArchiveEnabled, orderArchiveAgeDays,
+                parallelLoadEnabled, commandApiEnabled, commandApiPort);
     }
 
     @Override
@@ -57,7 +159,31 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nJournal compaction threshold : " + journalCompactionThreshold);
+        sb.append("\nAutosave enabled : " + autosaveEnabled);
+        sb.append("\nAutosave quiet period : " + autosaveQuietPeriodMillis + "ms");
+        sb.append("\nAutosave max delay : " + autosaveMaxDelayMillis + "ms");
+        sb.append("\nOrder archive enabled : " + orderArchiveEnabled);
+        sb.append("\nOrder archive age : " + orderArchiveAgeDays + " days");
+        sb.append("\nParallel load enabled : " + parallelLoadEnabled);
+        sb.append("\nCommand API enabled : " + commandApiEnabled);
+        sb.append("\nCommand API port : " + commandApiPort);
         return sb.toString();
     }
 
+    /**
+     * Formats in which the address book data can be stored.
+     */
+    public enum StorageFormat {
+        /** A single json file. */
+        JSON,
+        /** A json snapshot with an append-only journal of the changes made since. */
+        JOURNAL,
+        /** One json file each for the customers, cheeses and orders, in the directory of the data file. */
+        SPLIT,
+        /** A compact binary file next to the data file, which imports the json data file if it does not exist. */
+        BINARY
+    }
+
 }
@@ -8,6 +8,11 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX = "The customer index provided is invalid";
+    public static final String MESSAGE_INVALID_CHEESE_DISPLAYED_INDEX = "The cheese index provided is invalid";
     public static final String MESSAGE_CUSTOMERS_LISTED_OVERVIEW = "%1$d customers listed!";
+    public static final String MESSAGE_ORDERS_LISTED_OVERVIEW = "%1$d orders listed!";
+    public static final String MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW = "%1$d archived orders also match:";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "The archived orders could not be read: %1$s";
+    public static final String MESSAGE_CHEESES_LISTED_OVERVIEW = "%1$d cheeses listed!";
 
 }
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +87,47 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes {@code file} by passing a buffered stream over a temporary file in the same directory to
+     * {@code contentWriter}, then renaming the temporary file over {@code file}.
+     * The file is therefore either left untouched or completely replaced, even if writing fails midway.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                contentWriter.write(out);
+                out.flush();
+                channel.force(false);
+            }
+            moveReplacing(tempFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to the given stream, which is closed by the caller.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
 }
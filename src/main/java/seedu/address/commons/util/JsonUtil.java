@@ -2,7 +2,9 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -90,6 +95,29 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a {@code JsonParser} that streams the contents of {@code filePath}, which must exist.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAs(Class)}, are bound with the same
+     * settings as {@link #readJsonFile(Path, Class)}. The file is closed when the parser is closed.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} that writes UTF-8 json to {@code out}, pretty printed in the same layout as
+     * {@link #saveJsonFile(Object, Path)}. The stream is closed when the generator is closed.
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -28,6 +28,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Modification count of the address book when it was last saved, or loaded
+    private long savedModificationCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -35,21 +38,33 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
+    /**
+     * {@inheritDoc}
+     * Commands are run one at a time, even when they come from several threads, e.g. the UI and the command API.
+     */
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            // Nothing to save, e.g. the command only displayed data
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedModificationCount = modificationCount;
 
         return commandResult;
     }
@@ -61,7 +76,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Customer> getFilteredCustomerList() {
-        return model.getFilteredCustomerList();
+        return model.getDisplayedCustomerList();
     }
 
     @Override
@@ -1,15 +1,26 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.customer.Address;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.Email;
+import seedu.address.model.customer.Name;
+import seedu.address.model.customer.Phone;
+import seedu.address.model.tag.Tag;
 
 /**
  * Adds a customer to the address book.
@@ -35,37 +46,75 @@ public class AddCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New customer added: %1$s";
     public static final String MESSAGE_DUPLICATE_CUSTOMER = "This customer already exists in the address book";
+    public static final String MESSAGE_DUPLICATE_CUSTOMER_ID = "Another customer already has this id";
 
-    private final Customer toAdd;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Set<Tag> tags;
+    private final Optional<CustomerId> customerId;
 
     /**
-     * Creates an AddCommand to add the specified {@code Customer}
+     * Creates an AddCommand to add a customer with the given details, under an id allocated by the model when the
+     * command is executed.
+     */
+    public AddCommand(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(name, phone, email, address, tags, Optional.empty());
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Customer}, under its own id.
      */
     public AddCommand(Customer customer) {
-        requireNonNull(customer);
-        toAdd = customer;
+        this(requireNonNull(customer).getName(), customer.getPhone(), customer.getEmail(), customer.getAddress(),
+                customer.getTags(), Optional.of(customer.getId()));
+    }
+
+    private AddCommand(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+            Optional<CustomerId> customerId) {
+        requireAllNonNull(name, phone, email, address, tags, customerId);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = new HashSet<>(tags);
+        this.customerId = customerId;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        Customer toAdd = new Customer(name, phone, email, address, tags,
+                customerId.orElseGet(() -> model.getIdAllocator().allocateCustomerId()));
         if (model.hasCustomer(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_CUSTOMER);
         }
+        if (model.findCustomerById(toAdd.getId()).isPresent()) {
+            throw new CommandException(MESSAGE_DUPLICATE_CUSTOMER_ID);
+        }
 
         model.addCustomer(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
-    public Customer getToAdd() {
-        return toAdd;
-    }
-
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof AddCommand // instanceof handles nulls
-                && toAdd.equals(((AddCommand) other).toAdd));
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddCommand)) {
+            return false;
+        }
+
+        AddCommand otherCommand = (AddCommand) other;
+        return name.equals(otherCommand.name)
+                && phone.equals(otherCommand.phone)
+                && email.equals(otherCommand.email)
+                && address.equals(otherCommand.address)
+                && tags.equals(otherCommand.tags)
+                && customerId.equals(otherCommand.customerId);
     }
 }
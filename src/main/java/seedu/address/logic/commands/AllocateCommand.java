@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+
+/**
+ * Assigns the available cheeses to all pending orders at once, oldest orders first and soonest-expiring cheeses first.
+ */
+public class AllocateCommand extends Command {
+
+    public static final String COMMAND_WORD = "allocate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns the available cheeses to every pending order "
+            + "that is short of its quantity, serving the orders placed first with the cheeses of their type that "
+            + "expire first, and displays the orders given cheeses. "
+            + "Expiry is checked as of now, or as of the specified date.\n"
+            + "Parameters: "
+            + "[" + PREFIX_DATE + "DATE]\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Allocated %1$d cheeses to %2$d orders";
+    public static final String MESSAGE_NOTHING_ALLOCATED = "No available cheeses could be allocated to pending orders";
+
+    private final Optional<LocalDateTime> asOf;
+
+    /**
+     * Creates an AllocateCommand allocating the cheeses available as of {@code asOf}, which is the time of execution
+     * if empty.
+     */
+    public AllocateCommand(Optional<LocalDateTime> asOf) {
+        requireNonNull(asOf);
+        this.asOf = asOf;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // The whole backlog is allocated as one modification, so it is saved once
+        List<Order> allocatedOrders = model.allocateCheeses(asOf.orElseGet(LocalDateTime::now));
+        if (allocatedOrders.isEmpty()) {
+            return new CommandResult(MESSAGE_NOTHING_ALLOCATED);
+        }
+
+        // Matched by id, so the allocated orders stay listed when they are edited later
+        Set<OrderId> allocatedOrderIds = allocatedOrders.stream().map(Order::getOrderId).collect(Collectors.toSet());
+        model.updateFilteredOrderList(order -> allocatedOrderIds.contains(order.getOrderId()));
+
+        int cheeseCount = 0;
+        for (Order order : allocatedOrders) {
+            cheeseCount += order.getCheeses().size();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, cheeseCount, allocatedOrders.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllocateCommand // instanceof handles nulls
+                && asOf.equals(((AllocateCommand) other).asOf));
+    }
+}
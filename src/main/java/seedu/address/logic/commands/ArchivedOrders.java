@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+
+/**
+ * Looks up the archived orders matching the filter of an order command. Archived orders are not in the address
+ * book, so they are described in the command's feedback instead of being shown in the order list.
+ */
+final class ArchivedOrders {
+
+    private ArchivedOrders() {}
+
+    /**
+     * Returns a line with the number of archived orders of {@code model} matching {@code predicate}, followed by a
+     * line describing each of them, or an empty string if none of them match.
+     *
+     * @throws CommandException if the archive could not be read.
+     */
+    static String describeMatches(Model model, Predicate<Order> predicate) throws CommandException {
+        requireAllNonNull(model, predicate);
+        List<Order> matches;
+        try {
+            matches = model.getArchivedOrderList().stream().filter(predicate).collect(Collectors.toList());
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        if (matches.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder description = new StringBuilder("\n")
+                .append(String.format(Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, matches.size()));
+        matches.forEach(order -> description.append("\n").append(order));
+        return description.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.order.Order;
+
+/**
+ * Deletes a cheese identified using it's displayed index from the address book, unless it is assigned to an order.
+ */
+public class DeleteCheeseCommand extends Command {
+
+    public static final String COMMAND_WORD = "deletecheese";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the cheese identified by the index number used in the displayed cheese list. "
+            + "Cheeses assigned to orders cannot be deleted.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_DELETE_CHEESE_SUCCESS = "Deleted Cheese: %1$s";
+    public static final String MESSAGE_CHEESE_ASSIGNED = "The cheese is assigned to the orders with IDs %1$s "
+            + "and cannot be deleted";
+
+    private final Index targetIndex;
+
+    public DeleteCheeseCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Cheese> lastShownList = model.getFilteredCheeseList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CHEESE_DISPLAYED_INDEX);
+        }
+
+        Cheese cheeseToDelete = lastShownList.get(targetIndex.getZeroBased());
+        List<Order> assignedOrders = model.getOrdersOfCheese(cheeseToDelete.getCheeseId());
+        if (!assignedOrders.isEmpty()) {
+            String orderIds = assignedOrders.stream()
+                    .map(Order::getOrderId)
+                    .sorted()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(", "));
+            throw new CommandException(String.format(MESSAGE_CHEESE_ASSIGNED, orderIds));
+        }
+
+        model.deleteCheese(cheeseToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_CHEESE_SUCCESS, cheeseToDelete));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteCheeseCommand // instanceof handles nulls
+                && targetIndex.equals(((DeleteCheeseCommand) other).targetIndex)); // state check
+    }
+}
@@ -11,18 +11,20 @@ import seedu.address.model.Model;
 import seedu.address.model.customer.Customer;
 
 /**
- * Deletes a customer identified using it's displayed index from the address book.
+ * Deletes a customer identified using it's displayed index from the address book, along with their orders.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the customer identified by the index number used in the displayed customer list.\n"
+            + ": Deletes the customer identified by the index number used in the displayed customer list, "
+            + "along with their orders.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_CUSTOMER_SUCCESS = "Deleted Customer: %1$s";
+    public static final String MESSAGE_DELETE_ORDERS_SUCCESS = "Deleted %1$d orders of the customer";
 
     private final Index targetIndex;
 
@@ -40,8 +42,14 @@ public class DeleteCommand extends Command {
         }
 
         Customer customerToDelete = lastShownList.get(targetIndex.getZeroBased());
+        int orderCount = model.getOrdersOfCustomer(customerToDelete.getId()).size();
         model.deleteCustomer(customerToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_CUSTOMER_SUCCESS, customerToDelete));
+
+        String message = String.format(MESSAGE_DELETE_CUSTOMER_SUCCESS, customerToDelete);
+        if (orderCount > 0) {
+            message += "\n" + String.format(MESSAGE_DELETE_ORDERS_SUCCESS, orderCount);
+        }
+        return new CommandResult(message);
     }
 
     @Override
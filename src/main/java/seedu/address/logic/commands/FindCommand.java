@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.customer.NameContainsKeywordsPredicate;
+import seedu.address.model.util.IndexedPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -28,7 +29,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredCustomerList(predicate);
+        // The name index finds the customers listed now, and the predicate tests those added or edited later
+        model.updateFilteredCustomerList(
+                new IndexedPredicate<>(model.findCustomersByNameKeywords(predicate.getKeywords()), predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW, model.getFilteredCustomerList().size()));
     }
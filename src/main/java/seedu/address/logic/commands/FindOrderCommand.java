@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHEESE_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.model.util.IndexedPredicate;
+
+/**
+ * Finds and lists all orders in address book matching every one of the given filters.
+ * A filter on the order dates also looks up the archived orders, which are described in the feedback to the user.
+ */
+public class FindOrderCommand extends Command {
+
+    public static final String COMMAND_WORD = "findorder";
+
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_PENDING = "pending";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all orders matching every one of the "
+            + "specified filters and displays them as a list with index numbers. "
+            + "At least one filter must be provided.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CUSTOMER_ID + "CUSTOMER_ID] "
+            + "[" + PREFIX_CHEESE_TYPE + "CHEESE_TYPE] "
+            + "[" + PREFIX_FROM_DATE + "ORDERED_FROM] "
+            + "[" + PREFIX_TO_DATE + "ORDERED_TO] "
+            + "[" + PREFIX_STATUS + STATUS_COMPLETED + "|" + STATUS_PENDING + "]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CHEESE_TYPE + "Feta "
+            + PREFIX_FROM_DATE + "2021-03-01 "
+            + PREFIX_STATUS + STATUS_PENDING;
+
+    private final OrderQuery query;
+
+    public FindOrderCommand(OrderQuery query) {
+        requireNonNull(query);
+        this.query = new OrderQuery(query);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // The order indexes find the orders listed now, and the query tests those added or edited later
+        model.updateFilteredOrderList(new IndexedPredicate<>(model.findOrders(query), query));
+        String message = String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size());
+        if (query.getOrderDateFrom().isPresent() || query.getOrderDateTo().isPresent()) {
+            message += ArchivedOrders.describeMatches(model, query);
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindOrderCommand // instanceof handles nulls
+                && query.equals(((FindOrderCommand) other).query)); // state check
+    }
+}
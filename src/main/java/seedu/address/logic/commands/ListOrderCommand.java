@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDER;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+import seedu.address.model.util.IndexedPredicate;
+
+/**
+ * Lists all orders in the address book to the user, or only those placed or completed within a range of dates.
+ * A range of dates also looks up the archived orders, which are described in the feedback to the user.
+ */
+public class ListOrderCommand extends Command {
+
+    public static final String COMMAND_WORD = "listorder";
+
+    public static final String COMPLETED_KEYWORD = "completed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all orders, or only those placed within the "
+            + "specified range of dates. With the " + COMPLETED_KEYWORD + " keyword, lists the orders completed "
+            + "within the range instead.\n"
+            + "Parameters: [" + COMPLETED_KEYWORD + "] "
+            + "[" + PREFIX_FROM_DATE + "START_DATE] "
+            + "[" + PREFIX_TO_DATE + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " " + COMPLETED_KEYWORD + " "
+            + PREFIX_FROM_DATE + "2021-03-01 "
+            + PREFIX_TO_DATE + "2021-03-31";
+
+    public static final String MESSAGE_SUCCESS = "Listed all orders";
+
+    private final boolean isByCompletedDate;
+    private final Optional<LocalDateTime> from;
+    private final Optional<LocalDateTime> to;
+
+    /**
+     * Creates a ListOrderCommand listing the orders placed, or completed if {@code isByCompletedDate}, from
+     * {@code from} to {@code to}, both inclusive. An empty bound leaves that end of the range open.
+     */
+    public ListOrderCommand(boolean isByCompletedDate, Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        requireAllNonNull(from, to);
+        this.isByCompletedDate = isByCompletedDate;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a ListOrderCommand listing all orders.
+     */
+    public ListOrderCommand() {
+        this(false, Optional.empty(), Optional.empty());
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!isByCompletedDate && !from.isPresent() && !to.isPresent()) {
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDER);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        // The date indexes find the orders listed now, and the range tests those added or edited later
+        List<Order> ordersInRange = isByCompletedDate
+                ? model.getOrdersCompletedBetween(from, to)
+                : model.getOrdersPlacedBetween(from, to);
+        model.updateFilteredOrderList(new IndexedPredicate<>(ordersInRange, this::isInRange));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size())
+                        + ArchivedOrders.describeMatches(model, this::isInRange));
+    }
+
+    /**
+     * Returns true if {@code order} was placed, or completed if {@code isByCompletedDate}, within the range.
+     */
+    private boolean isInRange(Order order) {
+        Optional<LocalDateTime> date = isByCompletedDate
+                ? Optional.ofNullable(order.getCompletedDate()).map(completedDate -> completedDate.value)
+                : Optional.of(order.getOrderDate().value);
+        return date.map(value -> from.map(bound -> !value.isBefore(bound)).orElse(true)
+                && to.map(bound -> !value.isAfter(bound)).orElse(true)).orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListOrderCommand)) {
+            return false;
+        }
+
+        ListOrderCommand otherCommand = (ListOrderCommand) other;
+        return isByCompletedDate == otherCommand.isByCompletedDate
+                && from.equals(otherCommand.from)
+                && to.equals(otherCommand.to);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.cheese.Cheese;
+
+/**
+ * Lists the cheeses that mature soonest, or within a number of days.
+ */
+public class MaturingCommand extends UpcomingCheeseCommand {
+
+    public static final String COMMAND_WORD = "maturing";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the cheeses that mature within the specified "
+            + "number of days, or the specified number of cheeses that mature first. "
+            + "At least one of the two must be provided. Cheeses are counted from now, or from the specified date.\n"
+            + "Parameters: "
+            + "[" + PREFIX_DAYS + "DAYS] "
+            + "[" + PREFIX_COUNT + "COUNT] "
+            + "[" + PREFIX_FROM_DATE + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAYS + "7 "
+            + PREFIX_COUNT + "10";
+
+    public MaturingCommand(Optional<Integer> days, Optional<Integer> count, Optional<LocalDateTime> from) {
+        super(days, count, from);
+    }
+
+    @Override
+    protected List<Cheese> findCheeses(Model model, LocalDateTime from, LocalDateTime to, int limit) {
+        return model.getCheesesMaturingBetween(from, to, limit);
+    }
+
+    @Override
+    protected LocalDateTime getDate(Cheese cheese) {
+        return cheese.getMaturityDate().value;
+    }
+}
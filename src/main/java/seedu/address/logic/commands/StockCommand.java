@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHEESE_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.AbstractDate;
+import seedu.address.model.Model;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+
+/**
+ * Shows how many cheeses of each type are available, reserved by orders, or expired.
+ */
+public class StockCommand extends Command {
+
+    public static final String COMMAND_WORD = "stock";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many cheeses of each type, or of the "
+            + "specified type only, are available, reserved by orders, or expired. "
+            + "Expiry is checked as of now, or as of the specified date.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CHEESE_TYPE + "CHEESE_TYPE] "
+            + "[" + PREFIX_DATE + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CHEESE_TYPE + "Feta";
+
+    public static final String MESSAGE_STOCK_HEADER = "Stock as of %1$s:";
+    public static final String MESSAGE_NO_STOCK = "There are no cheeses in stock.";
+
+    private final Optional<CheeseType> cheeseType;
+    private final Optional<LocalDateTime> asOf;
+
+    /**
+     * Creates a StockCommand showing the stock of {@code cheeseType}, or of every type if empty, as of {@code asOf},
+     * which is the time of execution if empty.
+     */
+    public StockCommand(Optional<CheeseType> cheeseType, Optional<LocalDateTime> asOf) {
+        requireAllNonNull(cheeseType, asOf);
+        this.cheeseType = cheeseType;
+        this.asOf = asOf;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime time = asOf.orElseGet(LocalDateTime::now);
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_STOCK_HEADER, time.format(AbstractDate.TO_STRING_FORMATTER)));
+
+        if (cheeseType.isPresent()) {
+            appendStock(builder, cheeseType.get(), model.getStock(cheeseType.get(), time));
+            return new CommandResult(builder.toString());
+        }
+
+        Map<CheeseType, StockCount> stock = model.getStock(time);
+        if (stock.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STOCK);
+        }
+        stock.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(type -> type.value)))
+                .forEach(entry -> appendStock(builder, entry.getKey(), entry.getValue()));
+        return new CommandResult(builder.toString());
+    }
+
+    private static void appendStock(StringBuilder builder, CheeseType cheeseType, StockCount stockCount) {
+        builder.append('\n').append(cheeseType).append(": ").append(stockCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StockCommand // instanceof handles nulls
+                && cheeseType.equals(((StockCommand) other).cheeseType)
+                && asOf.equals(((StockCommand) other).asOf));
+    }
+}
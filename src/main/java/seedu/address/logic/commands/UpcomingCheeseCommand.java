@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.util.IndexedPredicate;
+
+/**
+ * Lists the cheeses coming up to one of their dates, such as expiry or maturity, from a given date onwards.
+ * Either the cheeses reaching the date within a number of days are listed, or the first few to reach it, or the
+ * first few of those within the days. The first few are listed along with any cheeses reaching the date at the
+ * same time as the last of them, and the list goes on to show the cheeses added or edited later that reach the date
+ * by then.
+ */
+public abstract class UpcomingCheeseCommand extends Command {
+
+    private final Optional<Integer> days;
+    private final Optional<Integer> count;
+    private final Optional<LocalDateTime> from;
+
+    /**
+     * Creates a command listing the first {@code count} cheeses reaching their date within {@code days} days of
+     * {@code from}, which is the time of execution if empty.
+     */
+    protected UpcomingCheeseCommand(Optional<Integer> days, Optional<Integer> count, Optional<LocalDateTime> from) {
+        requireAllNonNull(days, count, from);
+        this.days = days;
+        this.count = count;
+        this.from = from;
+    }
+
+    /**
+     * Returns up to {@code limit} cheeses of {@code model} reaching their date from {@code from} to {@code to}, both
+     * inclusive, the soonest first.
+     */
+    protected abstract List<Cheese> findCheeses(Model model, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns the date of {@code cheese} that the command lists cheeses by.
+     */
+    protected abstract LocalDateTime getDate(Cheese cheese);
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime start = from.orElseGet(LocalDateTime::now);
+        LocalDateTime windowEnd = days.isPresent() ? start.plusDays(days.get()) : LocalDateTime.MAX;
+
+        List<Cheese> soonest = findCheeses(model, start, windowEnd, count.orElse(Integer.MAX_VALUE));
+        // The first few end the window early at the date of the last of them, which other cheeses may share
+        boolean isCut = count.isPresent() && soonest.size() == count.get();
+        LocalDateTime end = isCut ? getDate(soonest.get(soonest.size() - 1)) : windowEnd;
+        List<Cheese> upcoming = isCut ? findCheeses(model, start, end, Integer.MAX_VALUE) : soonest;
+
+        // The date index finds the cheeses listed now, and the window tests those added or edited later
+        model.updateFilteredCheeseList(new IndexedPredicate<>(upcoming,
+                cheese -> !getDate(cheese).isBefore(start) && !getDate(cheese).isAfter(end)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_CHEESES_LISTED_OVERVIEW, model.getFilteredCheeseList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Commands for different dates are of different classes
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        UpcomingCheeseCommand otherCommand = (UpcomingCheeseCommand) other;
+        return days.equals(otherCommand.days)
+                && count.equals(otherCommand.count)
+                && from.equals(otherCommand.from);
+    }
+}
@@ -7,14 +7,21 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AllocateCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCheeseCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExpiringCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindOrderCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListOrderCommand;
+import seedu.address.logic.commands.MaturingCommand;
+import seedu.address.logic.commands.StockCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -53,15 +60,38 @@ public class AddressBookParser {
         case DeleteCommand.COMMAND_WORD:
             return new DeleteCommandParser().parse(arguments);
 
+        case DeleteCheeseCommand.COMMAND_WORD:
+            return new DeleteCheeseCommandParser().parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindOrderCommand.COMMAND_WORD:
+            return new FindOrderCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case ListOrderCommand.COMMAND_WORD:
+            return new ListOrderCommandParser().parse(arguments);
+
+        case ExpiringCommand.COMMAND_WORD:
+            return new UpcomingCheeseCommandParser(ExpiringCommand::new, ExpiringCommand.MESSAGE_USAGE)
+                    .parse(arguments);
+
+        case MaturingCommand.COMMAND_WORD:
+            return new UpcomingCheeseCommandParser(MaturingCommand::new, MaturingCommand.MESSAGE_USAGE)
+                    .parse(arguments);
+
+        case StockCommand.COMMAND_WORD:
+            return new StockCommandParser().parse(arguments);
+
+        case AllocateCommand.COMMAND_WORD:
+            return new AllocateCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AllocateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AllocateCommand object
+ */
+public class AllocateCommandParser implements Parser<AllocateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AllocateCommand
+     * and returns an AllocateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AllocateCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AllocateCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDateTime> asOf = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            asOf = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+
+        return new AllocateCommand(asOf);
+    }
+}
@@ -11,5 +11,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_CUSTOMER_ID = new Prefix("c/");
+    public static final Prefix PREFIX_CHEESE_TYPE = new Prefix("ct/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_STATUS = new Prefix("s/");
+    public static final Prefix PREFIX_DAYS = new Prefix("in/");
+    public static final Prefix PREFIX_COUNT = new Prefix("first/");
+    public static final Prefix PREFIX_DATE = new Prefix("on/");
 
 }
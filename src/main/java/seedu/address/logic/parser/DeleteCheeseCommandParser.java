@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.DeleteCheeseCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteCheeseCommand object
+ */
+public class DeleteCheeseCommandParser implements Parser<DeleteCheeseCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteCheeseCommand
+     * and returns a DeleteCheeseCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteCheeseCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new DeleteCheeseCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCheeseCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
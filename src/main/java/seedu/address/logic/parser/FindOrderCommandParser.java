@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHEESE_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.FindOrderCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.OrderQuery;
+
+/**
+ * Parses input arguments and creates a new FindOrderCommand object
+ */
+public class FindOrderCommandParser implements Parser<FindOrderCommand> {
+
+    public static final String MESSAGE_INVALID_STATUS = "Status should be either "
+            + FindOrderCommand.STATUS_COMPLETED + " or " + FindOrderCommand.STATUS_PENDING;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindOrderCommand
+     * and returns a FindOrderCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindOrderCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CUSTOMER_ID, PREFIX_CHEESE_TYPE,
+                PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_STATUS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+        }
+
+        OrderQuery query = new OrderQuery();
+        Optional<String> customerId = argMultimap.getValue(PREFIX_CUSTOMER_ID);
+        if (customerId.isPresent()) {
+            query.setCustomerId(ParserUtil.parseId(customerId.get()));
+        }
+        Optional<String> cheeseType = argMultimap.getValue(PREFIX_CHEESE_TYPE);
+        if (cheeseType.isPresent()) {
+            query.setCheeseType(ParserUtil.parseCheeseType(cheeseType.get()));
+        }
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM_DATE);
+        if (from.isPresent()) {
+            query.setOrderDateFrom(ParserUtil.parseDateTime(from.get()));
+        }
+        Optional<String> to = argMultimap.getValue(PREFIX_TO_DATE);
+        if (to.isPresent()) {
+            query.setOrderDateTo(ParserUtil.parseEndDateTime(to.get()));
+        }
+        Optional<String> status = argMultimap.getValue(PREFIX_STATUS);
+        if (status.isPresent()) {
+            query.setCompleted(parseStatus(status.get()));
+        }
+
+        if (!query.isAnyCriterionSet()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+        }
+        if (query.getOrderDateFrom().isPresent() && query.getOrderDateTo().isPresent()
+                && query.getOrderDateFrom().get().isAfter(query.getOrderDateTo().get())) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new FindOrderCommand(query);
+    }
+
+    /**
+     * Returns true if {@code status} names completed orders, and false if it names pending ones.
+     * @throws ParseException if {@code status} names neither
+     */
+    private static boolean parseStatus(String status) throws ParseException {
+        String trimmedStatus = status.trim();
+        if (trimmedStatus.equalsIgnoreCase(FindOrderCommand.STATUS_COMPLETED)) {
+            return true;
+        } else if (trimmedStatus.equalsIgnoreCase(FindOrderCommand.STATUS_PENDING)) {
+            return false;
+        }
+        throw new ParseException(MESSAGE_INVALID_STATUS);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListOrderCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListOrderCommand object
+ */
+public class ListOrderCommandParser implements Parser<ListOrderCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListOrderCommand
+     * and returns a ListOrderCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListOrderCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM_DATE, PREFIX_TO_DATE);
+
+        String preamble = argMultimap.getPreamble();
+        boolean isByCompletedDate = preamble.equalsIgnoreCase(ListOrderCommand.COMPLETED_KEYWORD);
+        if (!preamble.isEmpty() && !isByCompletedDate) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListOrderCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDateTime> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM_DATE).isPresent()) {
+            from = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM_DATE).get()));
+        }
+        Optional<LocalDateTime> to = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TO_DATE).isPresent()) {
+            to = Optional.of(ParserUtil.parseEndDateTime(argMultimap.getValue(PREFIX_TO_DATE).get()));
+        }
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ListOrderCommand(isByCompletedDate, from, to);
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -9,6 +11,9 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AbstractDate;
+import seedu.address.model.AbstractId;
+import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.Address;
 import seedu.address.model.customer.Email;
 import seedu.address.model.customer.Name;
@@ -21,6 +26,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start of the date range should not be after its end";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -95,6 +101,61 @@ public class ParserUtil {
         return new Email(trimmedEmail);
     }
 
+    /**
+     * Parses {@code id} into the value of an id and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified id is invalid (not non-zero unsigned integer).
+     */
+    public static int parseId(String id) throws ParseException {
+        requireNonNull(id);
+        String trimmedId = id.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedId)) {
+            throw new ParseException(AbstractId.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedId);
+    }
+
+    /**
+     * Parses a {@code String cheeseType} into a {@code CheeseType}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code cheeseType} is invalid.
+     */
+    public static CheeseType parseCheeseType(String cheeseType) throws ParseException {
+        requireNonNull(cheeseType);
+        String trimmedCheeseType = cheeseType.trim();
+        if (!CheeseType.isValidType(trimmedCheeseType)) {
+            throw new ParseException(CheeseType.MESSAGE_CONSTRAINTS);
+        }
+        return CheeseType.getCheeseType(trimmedCheeseType);
+    }
+
+    /**
+     * Parses a {@code String date} into a {@code LocalDateTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDateTime parseDateTime(String date) throws ParseException {
+        requireNonNull(date);
+        LocalDateTime dateTime = AbstractDate.parseDate(date.trim());
+        if (dateTime == null) {
+            throw new ParseException(AbstractDate.MESSAGE_CONSTRAINTS);
+        }
+        return dateTime;
+    }
+
+    /**
+     * Parses a {@code String date} into a {@code LocalDateTime} ending a date range.
+     * A date given without a time is taken as the last moment of that day, so that the range includes all of it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDateTime parseEndDateTime(String date) throws ParseException {
+        LocalDateTime dateTime = parseDateTime(date);
+        return dateTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? dateTime.with(LocalTime.MAX) : dateTime;
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
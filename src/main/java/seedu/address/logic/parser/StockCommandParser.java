@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHEESE_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.StockCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cheese.CheeseType;
+
+/**
+ * Parses input arguments and creates a new StockCommand object
+ */
+public class StockCommandParser implements Parser<StockCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StockCommand
+     * and returns a StockCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StockCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CHEESE_TYPE, PREFIX_DATE);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StockCommand.MESSAGE_USAGE));
+        }
+
+        Optional<CheeseType> cheeseType = Optional.empty();
+        if (argMultimap.getValue(PREFIX_CHEESE_TYPE).isPresent()) {
+            cheeseType = Optional.of(ParserUtil.parseCheeseType(argMultimap.getValue(PREFIX_CHEESE_TYPE).get()));
+        }
+        Optional<LocalDateTime> asOf = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            asOf = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+
+        return new StockCommand(cheeseType, asOf);
+    }
+}
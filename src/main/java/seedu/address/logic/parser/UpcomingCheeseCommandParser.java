@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.UpcomingCheeseCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingCheeseCommand object, such as an ExpiringCommand
+ */
+public class UpcomingCheeseCommandParser implements Parser<UpcomingCheeseCommand> {
+
+    public static final String MESSAGE_INVALID_DAYS = "Days should be a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_COUNT = "Count should be a non-zero unsigned integer.";
+
+    /**
+     * Creates the command from the days, count and start date parsed.
+     */
+    @FunctionalInterface
+    public interface CommandFactory {
+        UpcomingCheeseCommand create(Optional<Integer> days, Optional<Integer> count, Optional<LocalDateTime> from);
+    }
+
+    private final CommandFactory commandFactory;
+    private final String messageUsage;
+
+    /**
+     * Creates a parser of the commands created by {@code commandFactory}, whose usage is {@code messageUsage}.
+     */
+    public UpcomingCheeseCommandParser(CommandFactory commandFactory, String messageUsage) {
+        requireNonNull(commandFactory);
+        requireNonNull(messageUsage);
+        this.commandFactory = commandFactory;
+        this.messageUsage = messageUsage;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingCheeseCommand
+     * and returns an UpcomingCheeseCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingCheeseCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAYS, PREFIX_COUNT, PREFIX_FROM_DATE);
+
+        if (!argMultimap.getPreamble().isEmpty() || (!argMultimap.getValue(PREFIX_DAYS).isPresent()
+                && !argMultimap.getValue(PREFIX_COUNT).isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        Optional<Integer> days = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DAYS).isPresent()) {
+            days = Optional.of(parsePositiveInteger(argMultimap.getValue(PREFIX_DAYS).get(), MESSAGE_INVALID_DAYS));
+        }
+        Optional<Integer> count = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            count = Optional.of(parsePositiveInteger(argMultimap.getValue(PREFIX_COUNT).get(), MESSAGE_INVALID_COUNT));
+        }
+        Optional<LocalDateTime> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM_DATE).isPresent()) {
+            from = Optional.of(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM_DATE).get()));
+        }
+
+        return commandFactory.create(days, count, from);
+    }
+
+    /**
+     * Parses {@code value} into a positive integer, failing with {@code message} if it is not one.
+     */
+    private static int parsePositiveInteger(String value, String message) throws ParseException {
+        String trimmedValue = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue)) {
+            throw new ParseException(message);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+}
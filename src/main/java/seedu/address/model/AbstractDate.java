@@ -41,6 +41,16 @@ public abstract class AbstractDate {
         value = dateTime;
     }
 
+    /**
+     * Constructs a {@code Date} from an already parsed date and time.
+     *
+     * @param dateTime A valid date and time.
+     */
+    public AbstractDate(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        value = dateTime;
+    }
+
     /**
      * @param dateText A String containing date
      * @return null if date is invalid otherwise a LocalDateTime object of String date
@@ -36,6 +36,11 @@ public abstract class AbstractId<U> implements Comparable<AbstractId> {
             && value == ((AbstractId) other).value); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
     @Override
     public int compareTo(AbstractId id) {
         if (value > id.value) {
@@ -1,16 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
 import seedu.address.model.cheese.UniqueCheeseList;
+import seedu.address.model.cheese.exceptions.CheeseAssignedException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.UniqueCustomerList;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
 import seedu.address.model.order.UniqueOrderList;
+import seedu.address.model.util.ChangeFeed;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +33,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueCustomerList customers;
     private final UniqueOrderList orders;
     private final UniqueCheeseList cheeses;
+    private final StockLedger stockLedger;
+    private final IdAllocator idAllocator;
+
+    // Bumped by every successful modification of the data
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +50,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         customers = new UniqueCustomerList();
         orders = new UniqueOrderList();
         cheeses = new UniqueCheeseList();
+        stockLedger = new StockLedger();
+        idAllocator = new IdAllocator();
     }
 
     public AddressBook() {}
@@ -53,6 +72,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setCustomers(List<Customer> customers) {
         this.customers.setCustomers(customers);
+        customers.forEach(customer -> idAllocator.markTaken(customer.getId()));
+        modificationCount++;
     }
 
     /**
@@ -60,7 +81,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code orders} must not contain duplicate customers.
      */
     public void setOrders(List<Order> orders) {
-        this.orders.setOrders(orders);
+        replaceOrders(orders);
+        stockLedger.reset(getCheeseList(), getOrderList());
     }
 
     /**
@@ -68,18 +90,73 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code cheeses} must not contain duplicate cheeses.
      */
     public void setCheeses(List<Cheese> cheeses) {
+        replaceCheeses(cheeses);
+        stockLedger.reset(getCheeseList(), getOrderList());
+    }
+
+    /**
+     * Replaces the contents of the orders list with {@code orders}, leaving the stock ledger to be reset by the
+     * caller.
+     */
+    private void replaceOrders(List<Order> orders) {
+        this.orders.setOrders(orders);
+        orders.forEach(order -> idAllocator.markTaken(order.getOrderId()));
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the cheese list with {@code cheeses}, leaving the stock ledger to be reset by the
+     * caller.
+     */
+    private void replaceCheeses(List<Cheese> cheeses) {
         this.cheeses.setCheeses(cheeses);
+        cheeses.forEach(cheese -> idAllocator.markTaken(cheese.getCheeseId()));
+        modificationCount++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Ids handed out before the reset are not handed out again, nor are the ids taken in {@code newData}'s
+     * allocator if it is an {@code AddressBook}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setCustomers(newData.getCustomerList());
-        setOrders(newData.getOrderList());
-        setCheeses(newData.getCheeseList());
+        if (newData instanceof AddressBook) {
+            idAllocator.markTaken(((AddressBook) newData).idAllocator);
+        }
+
+        bulkLoad(newData.getCustomerList(), newData.getCheeseList(), newData.getOrderList());
+    }
+
+    /**
+     * Replaces the contents of this {@code AddressBook} with {@code customers}, {@code cheeses} and {@code orders}.
+     * Each list is checked for duplicates in a single pass and then loaded at once, and the stock ledger is rebuilt
+     * once for all of them, so the cost grows linearly with the number of entities.
+     * If a list contains duplicates, the corresponding duplicate exception is thrown and the lists before it
+     * will already have been replaced.
+     */
+    public void bulkLoad(List<Customer> customers, List<Cheese> cheeses, List<Order> orders) {
+        requireAllNonNull(customers, cheeses, orders);
+
+        setCustomers(customers);
+        try {
+            replaceCheeses(cheeses);
+            replaceOrders(orders);
+        } finally {
+            // Rebuilt once for both lists, or for the lists as they are left if one of them is rejected
+            stockLedger.reset(getCheeseList(), getOrderList());
+        }
+    }
+
+    //// id operations
+
+    /**
+     * Returns the allocator of the ids of new customers, cheeses and orders of this address book.
+     * The ids of the entities in the address book are always marked as taken in it.
+     */
+    public IdAllocator getIdAllocator() {
+        return idAllocator;
     }
 
     //// order-level operations
@@ -98,6 +175,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addOrder(Order o) {
         orders.add(o);
+        idAllocator.markTaken(o.getOrderId());
+        stockLedger.addOrder(o);
+        modificationCount++;
     }
 
     /**
@@ -110,6 +190,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedOrder);
 
         orders.setOrder(target, editedOrder);
+        idAllocator.markTaken(editedOrder.getOrderId());
+        stockLedger.removeOrder(target);
+        stockLedger.addOrder(editedOrder);
+        modificationCount++;
     }
 
     /**
@@ -118,6 +202,57 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeOrder(Order key) {
         orders.remove(key);
+        stockLedger.removeOrder(key);
+        modificationCount++;
+    }
+
+    /**
+     * Assigns the cheeses available as of {@code asOf} to the pending orders, first to the orders placed first and
+     * from the cheeses that expire first, and returns the orders given more cheeses.
+     * All the orders are replaced as a single modification of the address book.
+     */
+    public List<Order> allocateCheeses(LocalDateTime asOf) {
+        requireNonNull(asOf);
+
+        List<Order> allocatedOrders = CheeseAllocator.allocate(getCheeseList(), getOrderList(), asOf);
+        for (Order allocatedOrder : allocatedOrders) {
+            Order target = orders.findById(allocatedOrder.getOrderId()).get();
+            orders.setOrder(target, allocatedOrder);
+            stockLedger.removeOrder(target);
+            stockLedger.addOrder(allocatedOrder);
+        }
+        if (!allocatedOrders.isEmpty()) {
+            modificationCount++;
+        }
+        return allocatedOrders;
+    }
+
+    @Override
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        return orders.findOrders(query);
+    }
+
+    @Override
+    public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        return orders.getOrdersOfCustomer(customerId);
+    }
+
+    @Override
+    public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        return orders.getOrdersOfCheese(cheeseId);
+    }
+
+    @Override
+    public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return orders.getOrdersPlacedBetween(from, to);
+    }
+
+    @Override
+    public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return orders.getOrdersCompletedBetween(from, to);
     }
 
     //// customer-level operations
@@ -136,6 +271,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addCustomer(Customer p) {
         customers.add(p);
+        idAllocator.markTaken(p.getId());
+        modificationCount++;
     }
 
     /**
@@ -148,14 +285,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedCustomer);
 
         customers.setCustomer(target, editedCustomer);
+        idAllocator.markTaken(editedCustomer.getId());
+        modificationCount++;
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, along with the orders of the customer.
      * {@code key} must exist in the address book.
      */
     public void removeCustomer(Customer key) {
         customers.remove(key);
+        // Removed at once, so the orders after them are renumbered only once
+        List<Order> ordersOfCustomer = orders.getOrdersOfCustomer(key.getId());
+        orders.removeAll(ordersOfCustomer);
+        ordersOfCustomer.forEach(stockLedger::removeOrder);
+        modificationCount++;
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(CustomerId customerId) {
+        requireNonNull(customerId);
+        return customers.findById(customerId);
+    }
+
+    @Override
+    public Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return customers.findByNameKeywords(keywords);
     }
 
     //// cheese-level operations
@@ -174,6 +330,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addCheese(Cheese c) {
         cheeses.add(c);
+        idAllocator.markTaken(c.getCheeseId());
+        stockLedger.addCheese(c);
+        modificationCount++;
     }
 
     /**
@@ -186,19 +345,84 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedCheese);
 
         cheeses.setCheese(target, editedCheese);
+        idAllocator.markTaken(editedCheese.getCheeseId());
+        stockLedger.removeCheese(target);
+        stockLedger.addCheese(editedCheese);
+        modificationCount++;
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
-     * {@code key} must exist in the address book.
+     * {@code key} must exist in the address book, and must not be assigned to any order.
+     *
+     * @throws CheeseAssignedException if {@code key} is assigned to an order
      */
     public void removeCheese(Cheese key) {
+        if (!orders.getOrdersOfCheese(key.getCheeseId()).isEmpty()) {
+            throw new CheeseAssignedException();
+        }
         cheeses.remove(key);
+        stockLedger.removeCheese(key);
+        modificationCount++;
+    }
+
+    @Override
+    public Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+        return stockLedger.getStock(asOf);
+    }
+
+    @Override
+    public StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+        return stockLedger.getStock(cheeseType, asOf);
+    }
+
+    @Override
+    public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return cheeses.getCheesesExpiringBetween(from, to, limit);
+    }
+
+    @Override
+    public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return cheeses.getCheesesMaturingBetween(from, to, limit);
     }
 
 
     //// util methods
 
+    /**
+     * {@inheritDoc}
+     * The snapshot is taken in constant time, and shares the lists of this {@code AddressBook} until it is next
+     * modified.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(customers.snapshot(), orders.snapshot(), cheeses.snapshot(),
+                customers.getLatestChange(), orders.getLatestChange(), cheeses.getLatestChange());
+    }
+
+    @Override
+    public ChangeFeed.Change<Customer> getLatestCustomerChange() {
+        return customers.getLatestChange();
+    }
+
+    @Override
+    public ChangeFeed.Change<Cheese> getLatestCheeseChange() {
+        return cheeses.getLatestChange();
+    }
+
+    @Override
+    public ChangeFeed.Change<Order> getLatestOrderChange() {
+        return orders.getLatestChange();
+    }
+
+    /**
+     * Returns the number of times the data in this {@code AddressBook} has been modified.
+     * Two calls return the same value only if no customer, cheese or order was added, replaced or removed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
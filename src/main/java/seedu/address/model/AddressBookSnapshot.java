@@ -0,0 +1,174 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.model.util.ChangeFeed;
+
+/**
+ * An immutable address book, holding the lists of an {@code AddressBook} as of when it was taken.
+ * Taking a snapshot costs constant time, as the lists are shared with the address book until it is next modified.
+ * The indexes that answer lookups are only built the first time a lookup is made, so that snapshots that are only
+ * saved or exported never pay for them.
+ *
+ * Snapshots can be read from any thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Customer> customers;
+    private final ObservableList<Order> orders;
+    private final ObservableList<Cheese> cheeses;
+    private final ChangeFeed.Change<Customer> latestCustomerChange;
+    private final ChangeFeed.Change<Order> latestOrderChange;
+    private final ChangeFeed.Change<Cheese> latestCheeseChange;
+
+    // Answers the lookups, built from the lists when first needed
+    private AddressBook indexedCopy;
+
+    /**
+     * Creates a snapshot of the given lists, each of which is as of the given last change to it.
+     */
+    AddressBookSnapshot(List<Customer> customers, List<Order> orders, List<Cheese> cheeses,
+            ChangeFeed.Change<Customer> latestCustomerChange, ChangeFeed.Change<Order> latestOrderChange,
+            ChangeFeed.Change<Cheese> latestCheeseChange) {
+        this.customers = FXCollections.unmodifiableObservableList(FXCollections.observableList(customers));
+        this.orders = FXCollections.unmodifiableObservableList(FXCollections.observableList(orders));
+        this.cheeses = FXCollections.unmodifiableObservableList(FXCollections.observableList(cheeses));
+        this.latestCustomerChange = latestCustomerChange;
+        this.latestOrderChange = latestOrderChange;
+        this.latestCheeseChange = latestCheeseChange;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public ObservableList<Customer> getCustomerList() {
+        return customers;
+    }
+
+    @Override
+    public ObservableList<Order> getOrderList() {
+        return orders;
+    }
+
+    @Override
+    public ObservableList<Cheese> getCheeseList() {
+        return cheeses;
+    }
+
+    @Override
+    public ChangeFeed.Change<Customer> getLatestCustomerChange() {
+        return latestCustomerChange;
+    }
+
+    @Override
+    public ChangeFeed.Change<Cheese> getLatestCheeseChange() {
+        return latestCheeseChange;
+    }
+
+    @Override
+    public ChangeFeed.Change<Order> getLatestOrderChange() {
+        return latestOrderChange;
+    }
+
+    // Lookups are synchronized, as some of them update the internal state of the indexed copy, e.g. getStock
+
+    @Override
+    public synchronized Optional<Customer> findCustomerById(CustomerId customerId) {
+        return getIndexedCopy().findCustomerById(customerId);
+    }
+
+    @Override
+    public synchronized Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+        return getIndexedCopy().findCustomersByNameKeywords(keywords);
+    }
+
+    @Override
+    public synchronized Set<Order> findOrders(OrderQuery query) {
+        return getIndexedCopy().findOrders(query);
+    }
+
+    @Override
+    public synchronized List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        return getIndexedCopy().getOrdersOfCustomer(customerId);
+    }
+
+    @Override
+    public synchronized List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+        return getIndexedCopy().getOrdersOfCheese(cheeseId);
+    }
+
+    @Override
+    public synchronized List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return getIndexedCopy().getOrdersPlacedBetween(from, to);
+    }
+
+    @Override
+    public synchronized List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from,
+            Optional<LocalDateTime> to) {
+        return getIndexedCopy().getOrdersCompletedBetween(from, to);
+    }
+
+    @Override
+    public synchronized List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return getIndexedCopy().getCheesesExpiringBetween(from, to, limit);
+    }
+
+    @Override
+    public synchronized List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return getIndexedCopy().getCheesesMaturingBetween(from, to, limit);
+    }
+
+    @Override
+    public synchronized Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+        return getIndexedCopy().getStock(asOf);
+    }
+
+    @Override
+    public synchronized StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+        return getIndexedCopy().getStock(cheeseType, asOf);
+    }
+
+    private AddressBook getIndexedCopy() {
+        assert Thread.holdsLock(this);
+        if (indexedCopy == null) {
+            indexedCopy = new AddressBook(this);
+        }
+        return indexedCopy;
+    }
+
+    @Override
+    public String toString() {
+        return customers.size() + " customers, " + cheeses.size() + " cheeses, " + orders.size() + " orders";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && customers.equals(((AddressBookSnapshot) other).customers)
+                && cheeses.equals(((AddressBookSnapshot) other).cheeses)
+                && orders.equals(((AddressBookSnapshot) other).orders));
+    }
+
+    @Override
+    public int hashCode() {
+        return customers.hashCode();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.order.Order;
+
+/**
+ * Assigns available cheeses to pending orders in a single pass.
+ * Orders are served in the order they were placed, and each takes the available cheeses of its type that expire
+ * first. The available cheeses of each type are kept in a heap by expiry date, so allocating m orders over c cheeses
+ * takes O((m + c) log (m + c)) time.
+ */
+class CheeseAllocator {
+
+    private static final Comparator<Order> BY_ORDER_DATE = Comparator
+            .comparing((Order order) -> order.getOrderDate().value)
+            .thenComparing(Order::getOrderId);
+
+    private static final Comparator<Cheese> BY_EXPIRY_DATE = Comparator
+            .comparing((Cheese cheese) -> cheese.getExpiryDate().value)
+            .thenComparing(Cheese::getCheeseId);
+
+    private CheeseAllocator() {}
+
+    /**
+     * Returns the pending orders in {@code orders} that are given more cheeses, with those cheeses assigned, in the
+     * order they were placed.
+     * A cheese is available if it is not assigned to any order and has not expired as of {@code asOf}. A pending
+     * order short of its quantity is given as many available cheeses as can still fill it.
+     */
+    static List<Order> allocate(List<Cheese> cheeses, List<Order> orders, LocalDateTime asOf) {
+        requireAllNonNull(cheeses, orders, asOf);
+
+        Set<CheeseId> assignedIds = new HashSet<>();
+        List<Order> unfilledOrders = new ArrayList<>();
+        for (Order order : orders) {
+            assignedIds.addAll(order.getCheeses());
+            if (order.getCompletedDate() == null && order.getCheeses().size() < order.getQuantity().value) {
+                unfilledOrders.add(order);
+            }
+        }
+
+        Map<CheeseType, PriorityQueue<Cheese>> availableByType = new HashMap<>();
+        for (Cheese cheese : cheeses) {
+            if (!assignedIds.contains(cheese.getCheeseId()) && cheese.getExpiryDate().value.isAfter(asOf)) {
+                availableByType.computeIfAbsent(cheese.getCheeseType(), unused -> new PriorityQueue<>(BY_EXPIRY_DATE))
+                        .add(cheese);
+            }
+        }
+
+        unfilledOrders.sort(BY_ORDER_DATE);
+        List<Order> allocatedOrders = new ArrayList<>();
+        for (Order order : unfilledOrders) {
+            PriorityQueue<Cheese> available = availableByType.get(order.getCheeseType());
+            if (available == null || available.isEmpty()) {
+                continue;
+            }
+
+            Set<CheeseId> cheeseIds = new HashSet<>(order.getCheeses());
+            while (cheeseIds.size() < order.getQuantity().value && !available.isEmpty()) {
+                cheeseIds.add(available.poll().getCheeseId());
+            }
+            allocatedOrders.add(new Order(order.getCheeseType(), order.getQuantity(), order.getOrderDate(),
+                    order.getCompletedDate(), cheeseIds, order.getOrderId(), order.getCustomerId()));
+        }
+        return allocatedOrders;
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
+
+/**
+ * Wraps a {@code Model} so that it can be used from several threads at once.
+ * Mutations hold an exclusive lock, so they are applied one at a time. Queries hold a shared lock, so any number of
+ * them run at once, and reads of a single scalar field, such as the modification count, are first tried without
+ * locking at all, falling back to the shared lock only if a mutation happened in the meantime. The few queries that
+ * update the internal state of the model, such as the stock as of a given time, hold the exclusive lock instead.
+ *
+ * The filtered lists are those of the wrapped model, updated under the exclusive lock, so a command sees the effect
+ * of its own mutations, e.g. of a new filter, at once. They are meant to be read by commands, which {@code Logic} runs
+ * one at a time. The lists to display are copies of the filtered ones that are only changed by
+ * {@code viewUpdater}, which should run the updates on the UI thread. Each change to a filtered list is handed to
+ * {@code viewUpdater} in the order they were made, and replayed on the copy as is, so an update costs as much as the
+ * change it replays.
+ * Only the individual operations are atomic: a command that reads the model and then mutates it may still interleave
+ * with the mutations of other threads.
+ */
+public class ConcurrentModel implements Model {
+
+    private final Model model;
+    private final Executor viewUpdater;
+    private final StampedLock lock = new StampedLock();
+
+    private final DisplayedList<Customer> displayedCustomers;
+    private final DisplayedList<Order> displayedOrders;
+    private final DisplayedList<Cheese> displayedCheeses;
+
+    /**
+     * Creates a {@code ConcurrentModel} around {@code model}, which must not be used directly afterwards, with the
+     * filtered lists updated by {@code viewUpdater}.
+     */
+    public ConcurrentModel(Model model, Executor viewUpdater) {
+        requireAllNonNull(model, viewUpdater);
+        this.model = model;
+        this.viewUpdater = viewUpdater;
+
+        displayedCustomers = new DisplayedList<>(model.getFilteredCustomerList());
+        displayedOrders = new DisplayedList<>(model.getFilteredOrderList());
+        displayedCheeses = new DisplayedList<>(model.getFilteredCheeseList());
+    }
+
+    //=========== Locking ====================================================================================
+
+    /**
+     * Returns the result of {@code query}, run while holding the shared lock.
+     */
+    private <T> T read(Supplier<T> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query}, first run without locking, and run again while holding the shared lock
+     * if a mutation started in the meantime.
+     * {@code query} must not have side effects, and must only read scalar fields, since it may see the model halfway
+     * through a mutation. Walking a collection, even a hash lookup, may follow links that a mutation is rewriting.
+     */
+    private <T> T readOptimistically(Supplier<T> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // An exception from an inconsistent view of the model is discarded, and the query is run again
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(query);
+    }
+
+    /**
+     * Returns the result of {@code mutation}, run while holding the exclusive lock.
+     */
+    private <T> T write(Supplier<T> mutation) {
+        long stamp = lock.writeLock();
+        try {
+            return mutation.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query} run while holding the exclusive lock, for queries that update the internal
+     * state of the model as they go.
+     */
+    private <T> T readExclusively(Supplier<T> query) {
+        return write(query);
+    }
+
+    /**
+     * Runs {@code mutation} while holding the exclusive lock.
+     */
+    private void write(Runnable mutation) {
+        write(() -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    //=========== Displayed Lists ============================================================================
+
+    /**
+     * A copy of a filtered list of the wrapped model that is only changed by {@code viewUpdater}.
+     */
+    private class DisplayedList<T> {
+
+        // Only changed by the view updater
+        private final ObservableList<T> view;
+        private final ObservableList<T> unmodifiableView;
+
+        /**
+         * Creates a copy of {@code filteredList}, kept up to date by the view updater.
+         */
+        DisplayedList(ObservableList<T> filteredList) {
+            // Nothing observes the view yet, so it can be filled on this thread
+            view = FXCollections.observableArrayList(filteredList);
+            unmodifiableView = FXCollections.unmodifiableObservableList(view);
+            filteredList.addListener(this::forwardToView);
+        }
+
+        /**
+         * Hands {@code change} to the filtered list over to {@code viewUpdater}, to be made to the displayed list
+         * too. Called while holding the exclusive lock, by the mutation that made the change.
+         */
+        private void forwardToView(ListChangeListener.Change<? extends T> change) {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    // The same elements are in the list
+                    continue;
+                }
+                int from = change.getFrom();
+                int removedSize = change.wasPermutated() ? change.getTo() - from : change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.wasPermutated()
+                        ? change.getList().subList(from, change.getTo())
+                        : change.getAddedSubList());
+                viewUpdater.execute(() -> replaceInView(from, removedSize, added));
+            }
+        }
+
+        /**
+         * Replaces the {@code removedSize} elements from index {@code from} of the displayed list with
+         * {@code added}, setting the elements that take the place of others, so that the rest of the list is left
+         * as it is.
+         */
+        private void replaceInView(int from, int removedSize, List<T> added) {
+            int replacedSize = Math.min(removedSize, added.size());
+            for (int i = 0; i < replacedSize; i++) {
+                if (view.get(from + i) != added.get(i)) {
+                    view.set(from + i, added.get(i));
+                }
+            }
+            if (removedSize > replacedSize) {
+                view.remove(from + replacedSize, from + removedSize);
+            } else if (added.size() > replacedSize) {
+                view.addAll(from + replacedSize, added.subList(replacedSize, added.size()));
+            }
+        }
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        write(() -> model.setUserPrefs(userPrefs));
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return read(model::getUserPrefs);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return read(model::getGuiSettings);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        write(() -> model.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return read(model::getAddressBookFilePath);
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        write(() -> model.setAddressBookFilePath(addressBookFilePath));
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        write(() -> model.setAddressBook(addressBook));
+    }
+
+    /**
+     * Returns a snapshot of the address book, which stays the same while the model is mutated.
+     * Taking it only holds the lock for constant time.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return read(() -> model.getAddressBook().snapshot());
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return readOptimistically(model::getAddressBookModificationCount);
+    }
+
+    @Override
+    public IdAllocator getIdAllocator() {
+        // The allocator is safe to use from any thread on its own
+        return model.getIdAllocator();
+    }
+
+    //=========== Customer Operations ==========================================================================
+
+    @Override
+    public boolean hasCustomer(Customer customer) {
+        requireNonNull(customer);
+        return read(() -> model.hasCustomer(customer));
+    }
+
+    @Override
+    public void deleteCustomer(Customer target) {
+        write(() -> model.deleteCustomer(target));
+    }
+
+    @Override
+    public void addCustomer(Customer customer) {
+        write(() -> model.addCustomer(customer));
+    }
+
+    @Override
+    public void setCustomer(Customer target, Customer editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        write(() -> model.setCustomer(target, editedCustomer));
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(CustomerId customerId) {
+        requireNonNull(customerId);
+        return read(() -> model.findCustomerById(customerId));
+    }
+
+    @Override
+    public Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return read(() -> model.findCustomersByNameKeywords(keywords));
+    }
+
+    //=========== Order Operations =============================================================================
+
+    @Override
+    public boolean hasOrder(Order order) {
+        requireNonNull(order);
+        return read(() -> model.hasOrder(order));
+    }
+
+    @Override
+    public void deleteOrder(Order target) {
+        write(() -> model.deleteOrder(target));
+    }
+
+    @Override
+    public void addOrder(Order order) {
+        write(() -> model.addOrder(order));
+    }
+
+    @Override
+    public void setOrder(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        write(() -> model.setOrder(target, editedOrder));
+    }
+
+    @Override
+    public List<Order> allocateCheeses(LocalDateTime asOf) {
+        requireNonNull(asOf);
+        return write(() -> model.allocateCheeses(asOf));
+    }
+
+    @Override
+    public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        return read(() -> model.getOrdersOfCustomer(customerId));
+    }
+
+    @Override
+    public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        return read(() -> model.getOrdersOfCheese(cheeseId));
+    }
+
+    @Override
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        return read(() -> model.findOrders(query));
+    }
+
+    @Override
+    public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return read(() -> model.getOrdersPlacedBetween(from, to));
+    }
+
+    @Override
+    public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return read(() -> model.getOrdersCompletedBetween(from, to));
+    }
+
+    @Override
+    public List<Order> getArchivedOrderList() throws DataConversionException {
+        // The archive is read outside the lock, so reading it the first time does not hold up other threads
+        return model.getArchivedOrderList();
+    }
+
+    //=========== Cheese Operations ============================================================================
+
+    @Override
+    public boolean hasCheese(Cheese cheese) {
+        requireNonNull(cheese);
+        return read(() -> model.hasCheese(cheese));
+    }
+
+    @Override
+    public void deleteCheese(Cheese target) {
+        write(() -> model.deleteCheese(target));
+    }
+
+    @Override
+    public void addCheese(Cheese cheese) {
+        write(() -> model.addCheese(cheese));
+    }
+
+    @Override
+    public void setCheese(Cheese target, Cheese editedCheese) {
+        requireAllNonNull(target, editedCheese);
+        write(() -> model.setCheese(target, editedCheese));
+    }
+
+    @Override
+    public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return read(() -> model.getCheesesExpiringBetween(from, to, limit));
+    }
+
+    @Override
+    public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return read(() -> model.getCheesesMaturingBetween(from, to, limit));
+    }
+
+    @Override
+    public Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+        // The stock ledger moves the cheeses that expired since it was last asked
+        return readExclusively(() -> model.getStock(asOf));
+    }
+
+    @Override
+    public StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+        return readExclusively(() -> model.getStock(cheeseType, asOf));
+    }
+
+    //=========== Filtered Lists =============================================================================
+
+    /**
+     * Returns the filtered list of {@code Customer} of the wrapped model, which is up to date as soon as a mutation
+     * returns.
+     */
+    @Override
+    public ObservableList<Customer> getFilteredCustomerList() {
+        return model.getFilteredCustomerList();
+    }
+
+    /**
+     * Returns the filtered list of {@code Order} of the wrapped model, which is up to date as soon as a mutation
+     * returns.
+     */
+    @Override
+    public ObservableList<Order> getFilteredOrderList() {
+        return model.getFilteredOrderList();
+    }
+
+    /**
+     * Returns the filtered list of {@code Cheese} of the wrapped model, which is up to date as soon as a mutation
+     * returns.
+     */
+    @Override
+    public ObservableList<Cheese> getFilteredCheeseList() {
+        return model.getFilteredCheeseList();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of {@code Customer}, which is only updated by the view
+     * updater.
+     */
+    @Override
+    public ObservableList<Customer> getDisplayedCustomerList() {
+        return displayedCustomers.unmodifiableView;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of {@code Order}, which is only updated by the view updater.
+     */
+    @Override
+    public ObservableList<Order> getDisplayedOrderList() {
+        return displayedOrders.unmodifiableView;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of {@code Cheese}, which is only updated by the view updater.
+     */
+    @Override
+    public ObservableList<Cheese> getDisplayedCheeseList() {
+        return displayedCheeses.unmodifiableView;
+    }
+
+    @Override
+    public void updateFilteredCustomerList(Predicate<Customer> predicate) {
+        requireNonNull(predicate);
+        write(() -> model.updateFilteredCustomerList(predicate));
+    }
+
+    @Override
+    public void updateFilteredOrderList(Predicate<Order> predicate) {
+        requireNonNull(predicate);
+        write(() -> model.updateFilteredOrderList(predicate));
+    }
+
+    @Override
+    public void updateFilteredCheeseList(Predicate<Cheese> predicate) {
+        requireNonNull(predicate);
+        write(() -> model.updateFilteredCheeseList(predicate));
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.OrderId;
+
+/**
+ * Hands out the ids of new customers, cheeses and orders of an address book.
+ * Each kind of id is counted separately, starting from {@link #FIRST_ID}. Ids are never handed out twice, and ids
+ * already taken by the entities of the address book are skipped by raising the next id past them.
+ * All operations are atomic, so ids can be allocated from several threads at once, and a block of consecutive ids
+ * can be reserved at once for bulk inserts.
+ */
+public class IdAllocator {
+
+    public static final int FIRST_ID = 1;
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of ids to reserve must not be negative.";
+
+    private final AtomicInteger nextCustomerId;
+    private final AtomicInteger nextCheeseId;
+    private final AtomicInteger nextOrderId;
+
+    /**
+     * Creates an {@code IdAllocator} that hands out every kind of id from {@link #FIRST_ID}.
+     */
+    public IdAllocator() {
+        this(FIRST_ID);
+    }
+
+    /**
+     * Creates an {@code IdAllocator} that hands out every kind of id from {@code firstId}.
+     */
+    public IdAllocator(int firstId) {
+        checkArgument(AbstractId.isValidId(firstId), AbstractId.MESSAGE_CONSTRAINTS);
+        nextCustomerId = new AtomicInteger(firstId);
+        nextCheeseId = new AtomicInteger(firstId);
+        nextOrderId = new AtomicInteger(firstId);
+    }
+
+    public CustomerId allocateCustomerId() {
+        return new CustomerId(nextCustomerId.getAndIncrement());
+    }
+
+    public CheeseId allocateCheeseId() {
+        return new CheeseId(nextCheeseId.getAndIncrement());
+    }
+
+    public OrderId allocateOrderId() {
+        return new OrderId(nextOrderId.getAndIncrement());
+    }
+
+    /**
+     * Reserves {@code count} consecutive customer ids and returns them in increasing order.
+     */
+    public List<CustomerId> reserveCustomerIds(int count) {
+        return reserve(nextCustomerId, count, CustomerId::new);
+    }
+
+    /**
+     * Reserves {@code count} consecutive cheese ids and returns them in increasing order.
+     */
+    public List<CheeseId> reserveCheeseIds(int count) {
+        return reserve(nextCheeseId, count, CheeseId::new);
+    }
+
+    /**
+     * Reserves {@code count} consecutive order ids and returns them in increasing order.
+     */
+    public List<OrderId> reserveOrderIds(int count) {
+        return reserve(nextOrderId, count, OrderId::new);
+    }
+
+    /**
+     * Marks {@code customerId} as taken, so that it is never handed out.
+     */
+    public void markTaken(CustomerId customerId) {
+        requireNonNull(customerId);
+        raisePast(nextCustomerId, customerId.value);
+    }
+
+    /**
+     * Marks {@code cheeseId} as taken, so that it is never handed out.
+     */
+    public void markTaken(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        raisePast(nextCheeseId, cheeseId.value);
+    }
+
+    /**
+     * Marks {@code orderId} as taken, so that it is never handed out.
+     */
+    public void markTaken(OrderId orderId) {
+        requireNonNull(orderId);
+        raisePast(nextOrderId, orderId.value);
+    }
+
+    /**
+     * Marks every id taken in {@code other} as taken in this allocator too.
+     */
+    public void markTaken(IdAllocator other) {
+        requireNonNull(other);
+        nextCustomerId.accumulateAndGet(other.nextCustomerId.get(), Math::max);
+        nextCheeseId.accumulateAndGet(other.nextCheeseId.get(), Math::max);
+        nextOrderId.accumulateAndGet(other.nextOrderId.get(), Math::max);
+    }
+
+    /**
+     * Returns the customer id that will be handed out next, without allocating it.
+     */
+    public CustomerId peekCustomerId() {
+        return new CustomerId(nextCustomerId.get());
+    }
+
+    /**
+     * Returns the cheese id that will be handed out next, without allocating it.
+     */
+    public CheeseId peekCheeseId() {
+        return new CheeseId(nextCheeseId.get());
+    }
+
+    /**
+     * Returns the order id that will be handed out next, without allocating it.
+     */
+    public OrderId peekOrderId() {
+        return new OrderId(nextOrderId.get());
+    }
+
+    private static <T> List<T> reserve(AtomicInteger nextId, int count, IntFunction<T> toId) {
+        checkArgument(count >= 0, MESSAGE_INVALID_COUNT);
+        int firstId = nextId.getAndAdd(count);
+        List<T> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(toId.apply(firstId + i));
+        }
+        return ids;
+    }
+
+    private static void raisePast(AtomicInteger nextId, int takenId) {
+        nextId.accumulateAndGet(takenId + 1, Math::max);
+    }
+}
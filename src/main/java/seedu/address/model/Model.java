@@ -1,13 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.cheese.exceptions.CheeseAssignedException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
 
 /**
  * The API of the Model component.
@@ -56,13 +68,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that changes whenever the data in the address book is modified.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns the allocator of the ids of new customers, cheeses and orders of the address book.
+     */
+    IdAllocator getIdAllocator();
+
     /**
      * Returns true if a customer with the same identity as {@code customer} exists in the address book.
      */
     boolean hasCustomer(Customer customer);
 
     /**
-     * Deletes the given customer.
+     * Deletes the given customer, along with their orders.
      * The customer must exist in the address book.
      */
     void deleteCustomer(Customer target);
@@ -81,6 +103,17 @@ public interface Model {
      */
     void setCustomer(Customer target, Customer editedCustomer);
 
+    /**
+     * Returns the customer with the given {@code customerId}, if it exists in the address book.
+     */
+    Optional<Customer> findCustomerById(CustomerId customerId);
+
+    /**
+     * Returns the customers in the address book whose name contains any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    Set<Customer> findCustomersByNameKeywords(List<String> keywords);
+
     /**
      * Returns true if a Order with the same identity as {@code order} exists in the address book.
      */
@@ -106,6 +139,48 @@ public interface Model {
      */
     void setOrder(Order target, Order editedOrder);
 
+    /**
+     * Assigns the cheeses available as of {@code asOf} to the pending orders, first to the orders placed first and
+     * from the cheeses that expire first, and returns the orders given more cheeses.
+     */
+    List<Order> allocateCheeses(LocalDateTime asOf);
+
+    /**
+     * Returns the orders of the customer with the given {@code customerId}.
+     */
+    List<Order> getOrdersOfCustomer(CustomerId customerId);
+
+    /**
+     * Returns the orders the cheese with the given {@code cheeseId} is assigned to.
+     */
+    List<Order> getOrdersOfCheese(CheeseId cheeseId);
+
+    /**
+     * Returns the orders in the address book matching {@code query}.
+     */
+    Set<Order> findOrders(OrderQuery query);
+
+    /**
+     * Returns the orders in the address book placed from {@code from} to {@code to}, both inclusive, in order of
+     * their order dates. An empty bound leaves that end of the range open.
+     */
+    List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to);
+
+    /**
+     * Returns the orders in the address book completed from {@code from} to {@code to}, both inclusive, in order of
+     * their completed dates. An empty bound leaves that end of the range open.
+     */
+    List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to);
+
+    /**
+     * Returns the completed orders that have been archived out of the address book, reading them from the archive
+     * the first time they are asked for. Safe to call from any thread, as the archive does not depend on the rest of
+     * the model.
+     *
+     * @throws DataConversionException if the archive could not be read.
+     */
+    List<Order> getArchivedOrderList() throws DataConversionException;
+
     /**
      * Returns true if a Cheese with the same identity as {@code cheese} exists in the address book.
      */
@@ -113,7 +188,9 @@ public interface Model {
 
     /**
      * Deletes the given cheese.
-     * The cheese must exist in the address book.
+     * The cheese must exist in the address book, and must not be assigned to any order.
+     *
+     * @throws CheeseAssignedException if {@code target} is assigned to an order
      */
     void deleteCheese(Cheese target);
 
@@ -131,6 +208,28 @@ public interface Model {
      */
     void setCheese(Cheese target, Cheese editedcheese);
 
+    /**
+     * Returns up to {@code limit} cheeses in the address book expiring from {@code from} to {@code to}, both
+     * inclusive, the soonest to expire first.
+     */
+    List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns up to {@code limit} cheeses in the address book maturing from {@code from} to {@code to}, both
+     * inclusive, the soonest to mature first.
+     */
+    List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns the stock of every cheese type in the address book with at least one cheese, as of {@code asOf}.
+     */
+    Map<CheeseType, StockCount> getStock(LocalDateTime asOf);
+
+    /**
+     * Returns the stock of {@code cheeseType} in the address book as of {@code asOf}.
+     */
+    StockCount getStock(CheeseType cheeseType, LocalDateTime asOf);
+
     /** Returns an unmodifiable view of the filtered customer list */
     ObservableList<Customer> getFilteredCustomerList();
 
@@ -140,6 +239,21 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered cheese list */
     ObservableList<Cheese> getFilteredCheeseList();
 
+    /**
+     * Returns an unmodifiable view of the filtered customer list to display, which is only updated on the UI thread.
+     */
+    ObservableList<Customer> getDisplayedCustomerList();
+
+    /**
+     * Returns an unmodifiable view of the filtered order list to display, which is only updated on the UI thread.
+     */
+    ObservableList<Order> getDisplayedOrderList();
+
+    /**
+     * Returns an unmodifiable view of the filtered cheese list to display, which is only updated on the UI thread.
+     */
+    ObservableList<Cheese> getDisplayedCheeseList();
+
     /**
      * Updates the filter of the filtered customer list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,6 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,9 +17,17 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.model.util.IndexedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,13 +40,25 @@ public class ModelManager implements Model {
     private final FilteredList<Customer> filteredCustomers;
     private final FilteredList<Order> filteredOrders;
     private final FilteredList<Cheese> filteredCheeses;
+    private final OrderArchive orderArchive;
+    // Read once, under archiveLock, and then only published through the volatile field
+    private final Object archiveLock = new Object();
+    private volatile List<Order> archivedOrders;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, OrderArchive.EMPTY);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose archived orders are in
+     * {@code orderArchive}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, OrderArchive orderArchive) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, orderArchive);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -41,6 +67,7 @@ public class ModelManager implements Model {
         filteredCustomers = new FilteredList<>(this.addressBook.getCustomerList());
         filteredOrders = new FilteredList<>(this.addressBook.getOrderList());
         filteredCheeses = new FilteredList<>(this.addressBook.getCheeseList());
+        this.orderArchive = orderArchive;
     }
 
     public ModelManager() {
@@ -94,6 +121,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public IdAllocator getIdAllocator() {
+        return addressBook.getIdAllocator();
+    }
+
     //=========== Customer Operations ==========================================================================
 
     @Override
@@ -120,6 +157,18 @@ public class ModelManager implements Model {
         addressBook.setCustomer(target, editedCustomer);
     }
 
+    @Override
+    public Optional<Customer> findCustomerById(CustomerId customerId) {
+        requireNonNull(customerId);
+        return addressBook.findCustomerById(customerId);
+    }
+
+    @Override
+    public Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findCustomersByNameKeywords(keywords);
+    }
+
     //=========== Order Operations ==========================================================================
 
     @Override
@@ -146,6 +195,56 @@ public class ModelManager implements Model {
         addressBook.setOrder(target, editedOrder);
     }
 
+    @Override
+    public List<Order> allocateCheeses(LocalDateTime asOf) {
+        requireNonNull(asOf);
+        return addressBook.allocateCheeses(asOf);
+    }
+
+    @Override
+    public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        return addressBook.getOrdersOfCustomer(customerId);
+    }
+
+    @Override
+    public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        return addressBook.getOrdersOfCheese(cheeseId);
+    }
+
+    @Override
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        return addressBook.findOrders(query);
+    }
+
+    @Override
+    public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return addressBook.getOrdersPlacedBetween(from, to);
+    }
+
+    @Override
+    public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return addressBook.getOrdersCompletedBetween(from, to);
+    }
+
+    @Override
+    public List<Order> getArchivedOrderList() throws DataConversionException {
+        // Orders are only archived while the address book is read, so the archive does not change afterwards
+        List<Order> orders = archivedOrders;
+        if (orders != null) {
+            return orders;
+        }
+        synchronized (archiveLock) {
+            if (archivedOrders == null) {
+                archivedOrders = Collections.unmodifiableList(orderArchive.readOrders());
+                logger.info("Read " + archivedOrders.size() + " archived orders");
+            }
+            return archivedOrders;
+        }
+    }
+
     //=========== Cheese Operations ==========================================================================
 
     @Override
@@ -172,6 +271,28 @@ public class ModelManager implements Model {
         addressBook.setCheese(target, editedCheese);
     }
 
+    @Override
+    public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return addressBook.getCheesesExpiringBetween(from, to, limit);
+    }
+
+    @Override
+    public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return addressBook.getCheesesMaturingBetween(from, to, limit);
+    }
+
+    @Override
+    public Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+        requireNonNull(asOf);
+        return addressBook.getStock(asOf);
+    }
+
+    @Override
+    public StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+        requireAllNonNull(cheeseType, asOf);
+        return addressBook.getStock(cheeseType, asOf);
+    }
+
 
     //=========== Filtered Customer List Accessors =============================================================
 
@@ -202,23 +323,58 @@ public class ModelManager implements Model {
         return filteredCheeses;
     }
 
+    /**
+     * Returns the filtered list of {@code Customer} itself, as a {@code ModelManager} is only used from one thread.
+     */
+    @Override
+    public ObservableList<Customer> getDisplayedCustomerList() {
+        return filteredCustomers;
+    }
+
+    /**
+     * Returns the filtered list of {@code Order} itself, as a {@code ModelManager} is only used from one thread.
+     */
+    @Override
+    public ObservableList<Order> getDisplayedOrderList() {
+        return filteredOrders;
+    }
+
+    /**
+     * Returns the filtered list of {@code Cheese} itself, as a {@code ModelManager} is only used from one thread.
+     */
+    @Override
+    public ObservableList<Cheese> getDisplayedCheeseList() {
+        return filteredCheeses;
+    }
+
 
     @Override
     public void updateFilteredCustomerList(Predicate<Customer> predicate) {
         requireNonNull(predicate);
-        filteredCustomers.setPredicate(predicate);
+        setPredicate(filteredCustomers, predicate);
     }
 
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
-        filteredOrders.setPredicate(predicate);
+        setPredicate(filteredOrders, predicate);
     }
 
     @Override
     public void updateFilteredCheeseList(Predicate<Cheese> predicate) {
         requireNonNull(predicate);
-        filteredCheeses.setPredicate(predicate);
+        setPredicate(filteredCheeses, predicate);
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}. An {@code IndexedPredicate} is marked as applied right after,
+     * so the elements changed later are tested by the predicate it stands for.
+     */
+    private static <T> void setPredicate(FilteredList<T> filteredList, Predicate<? super T> predicate) {
+        filteredList.setPredicate(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            ((IndexedPredicate<?>) predicate).markApplied();
+        }
     }
 
 
@@ -1,9 +1,21 @@
 package seedu.address.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.model.util.ChangeFeed;
 
 /**
  * Unmodifiable view of an address book
@@ -28,4 +40,83 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Cheese> getCheeseList();
 
+    /**
+     * Returns an immutable copy of this address book as of now, which later modifications of it do not change.
+     */
+    ReadOnlyAddressBook snapshot();
+
+    /**
+     * Returns the last change made to the customers list, from which all later changes can be followed.
+     */
+    ChangeFeed.Change<Customer> getLatestCustomerChange();
+
+    /**
+     * Returns the last change made to the cheeses list, from which all later changes can be followed.
+     */
+    ChangeFeed.Change<Cheese> getLatestCheeseChange();
+
+    /**
+     * Returns the last change made to the orders list, from which all later changes can be followed.
+     */
+    ChangeFeed.Change<Order> getLatestOrderChange();
+
+    /**
+     * Returns the customer with the given {@code customerId}, if there is one.
+     */
+    Optional<Customer> findCustomerById(CustomerId customerId);
+
+    /**
+     * Returns the customers whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    Set<Customer> findCustomersByNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the orders matching {@code query}.
+     */
+    Set<Order> findOrders(OrderQuery query);
+
+    /**
+     * Returns the orders of the customer with the given {@code customerId}.
+     */
+    List<Order> getOrdersOfCustomer(CustomerId customerId);
+
+    /**
+     * Returns the orders the cheese with the given {@code cheeseId} is assigned to.
+     */
+    List<Order> getOrdersOfCheese(CheeseId cheeseId);
+
+    /**
+     * Returns the orders placed from {@code from} to {@code to}, both inclusive, in order of their order dates.
+     * An empty bound leaves that end of the range open.
+     */
+    List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to);
+
+    /**
+     * Returns the orders completed from {@code from} to {@code to}, both inclusive, in order of their completed
+     * dates. An empty bound leaves that end of the range open.
+     */
+    List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to);
+
+    /**
+     * Returns up to {@code limit} cheeses expiring from {@code from} to {@code to}, both inclusive, the soonest to
+     * expire first.
+     */
+    List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns up to {@code limit} cheeses maturing from {@code from} to {@code to}, both inclusive, the soonest to
+     * mature first.
+     */
+    List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns the stock of every cheese type with at least one cheese, as of {@code asOf}.
+     */
+    Map<CheeseType, StockCount> getStock(LocalDateTime asOf);
+
+    /**
+     * Returns the stock of {@code cheeseType} as of {@code asOf}.
+     */
+    StockCount getStock(CheeseType cheeseType, LocalDateTime asOf);
+
 }
@@ -0,0 +1,203 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.order.Order;
+
+/**
+ * A ledger of the stock of each {@code CheeseType}, kept in step with the cheeses and orders of an
+ * {@code AddressBook}.
+ * A cheese is reserved while its id is assigned to an order. Otherwise it is available until its expiry date, after
+ * which it counts as expired. Each mutation only adjusts the counts of the cheeses it touches, and the unreserved
+ * cheeses are kept in order of expiry, so that those that have expired since the stock was last asked for are moved
+ * to the expired count without looking at the others.
+ */
+class StockLedger {
+
+    private final Map<CheeseId, Cheese> cheesesById = new HashMap<>();
+    // Number of orders each cheese id is assigned to, including the ids of cheeses not in the address book
+    private final Map<CheeseId, Integer> assignments = new HashMap<>();
+    private final Map<CheeseType, Counts> countsByType = new HashMap<>();
+
+    // Unreserved cheeses by expiry date, split at asOf into the ones still available and the ones already expired
+    private final NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> availableByExpiry = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> expiredByExpiry = new TreeMap<>();
+    private LocalDateTime asOf = LocalDateTime.MIN;
+
+    /**
+     * Returns the stock of every cheese type with at least one cheese, as of {@code asOf}.
+     */
+    Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+        requireNonNull(asOf);
+        rollTo(asOf);
+        Map<CheeseType, StockCount> stock = new HashMap<>();
+        countsByType.forEach((type, counts) -> stock.put(type, counts.toStockCount()));
+        return stock;
+    }
+
+    /**
+     * Returns the stock of {@code cheeseType} as of {@code asOf}.
+     */
+    StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+        requireNonNull(cheeseType);
+        requireNonNull(asOf);
+        rollTo(asOf);
+        Counts counts = countsByType.get(cheeseType);
+        return counts == null ? StockCount.NONE : counts.toStockCount();
+    }
+
+    /**
+     * Replaces the contents of the ledger with the stock of {@code cheeses} and the reservations of {@code orders}.
+     */
+    void reset(List<Cheese> cheeses, List<Order> orders) {
+        cheesesById.clear();
+        assignments.clear();
+        countsByType.clear();
+        availableByExpiry.clear();
+        expiredByExpiry.clear();
+        orders.forEach(this::addOrder);
+        cheeses.forEach(this::addCheese);
+    }
+
+    void addCheese(Cheese cheese) {
+        cheesesById.put(cheese.getCheeseId(), cheese);
+        if (assignments.containsKey(cheese.getCheeseId())) {
+            countsOf(cheese).reserved++;
+        } else {
+            addUnreserved(cheese);
+        }
+    }
+
+    void removeCheese(Cheese cheese) {
+        cheesesById.remove(cheese.getCheeseId());
+        if (assignments.containsKey(cheese.getCheeseId())) {
+            countsOf(cheese).reserved--;
+            removeCountsIfEmpty(cheese.getCheeseType());
+        } else {
+            removeUnreserved(cheese);
+        }
+    }
+
+    void addOrder(Order order) {
+        for (CheeseId cheeseId : order.getCheeses()) {
+            int orderCount = assignments.merge(cheeseId, 1, Integer::sum);
+            Cheese cheese = cheesesById.get(cheeseId);
+            if (orderCount == 1 && cheese != null) {
+                removeUnreserved(cheese);
+                countsOf(cheese).reserved++;
+            }
+        }
+    }
+
+    void removeOrder(Order order) {
+        for (CheeseId cheeseId : order.getCheeses()) {
+            int orderCount = assignments.merge(cheeseId, -1, Integer::sum);
+            if (orderCount > 0) {
+                continue;
+            }
+            assignments.remove(cheeseId);
+            Cheese cheese = cheesesById.get(cheeseId);
+            if (cheese != null) {
+                countsOf(cheese).reserved--;
+                addUnreserved(cheese);
+            }
+        }
+    }
+
+    private void addUnreserved(Cheese cheese) {
+        boolean isExpired = !cheese.getExpiryDate().value.isAfter(asOf);
+        (isExpired ? expiredByExpiry : availableByExpiry)
+                .computeIfAbsent(cheese.getExpiryDate().value, unused -> new LinkedHashMap<>())
+                .put(cheese.getCheeseId(), cheese);
+        Counts counts = countsOf(cheese);
+        if (isExpired) {
+            counts.expired++;
+        } else {
+            counts.available++;
+        }
+    }
+
+    private void removeUnreserved(Cheese cheese) {
+        boolean isExpired = !cheese.getExpiryDate().value.isAfter(asOf);
+        NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> byExpiry = isExpired ? expiredByExpiry : availableByExpiry;
+        Map<CheeseId, Cheese> cheesesOnDate = byExpiry.get(cheese.getExpiryDate().value);
+        cheesesOnDate.remove(cheese.getCheeseId());
+        if (cheesesOnDate.isEmpty()) {
+            byExpiry.remove(cheese.getExpiryDate().value);
+        }
+        Counts counts = countsOf(cheese);
+        if (isExpired) {
+            counts.expired--;
+        } else {
+            counts.available--;
+        }
+        removeCountsIfEmpty(cheese.getCheeseType());
+    }
+
+    /**
+     * Moves the unreserved cheeses whose expiry date is crossed between the current {@code asOf} and {@code newAsOf}
+     * between the available and expired counts. Time usually moves forward, so each cheese is usually moved once.
+     */
+    private void rollTo(LocalDateTime newAsOf) {
+        if (newAsOf.isAfter(asOf)) {
+            NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> nowExpired = availableByExpiry.headMap(newAsOf, true);
+            nowExpired.forEach((expiryDate, cheeses) -> {
+                expiredByExpiry.put(expiryDate, cheeses);
+                cheeses.values().forEach(cheese -> {
+                    Counts counts = countsOf(cheese);
+                    counts.available--;
+                    counts.expired++;
+                });
+            });
+            nowExpired.clear();
+        } else if (newAsOf.isBefore(asOf)) {
+            NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> notYetExpired = expiredByExpiry.tailMap(newAsOf, false);
+            notYetExpired.forEach((expiryDate, cheeses) -> {
+                availableByExpiry.put(expiryDate, cheeses);
+                cheeses.values().forEach(cheese -> {
+                    Counts counts = countsOf(cheese);
+                    counts.expired--;
+                    counts.available++;
+                });
+            });
+            notYetExpired.clear();
+        }
+        asOf = newAsOf;
+    }
+
+    private Counts countsOf(Cheese cheese) {
+        return countsByType.computeIfAbsent(cheese.getCheeseType(), unused -> new Counts());
+    }
+
+    private void removeCountsIfEmpty(CheeseType cheeseType) {
+        Counts counts = countsByType.get(cheeseType);
+        if (counts != null && counts.available == 0 && counts.reserved == 0 && counts.expired == 0) {
+            countsByType.remove(cheeseType);
+        }
+    }
+
+    /**
+     * Mutable stock counts of a cheese type.
+     */
+    private static class Counts {
+        private int available;
+        private int reserved;
+        private int expired;
+
+        private StockCount toStockCount() {
+            return new StockCount(available, reserved, expired);
+        }
+    }
+}
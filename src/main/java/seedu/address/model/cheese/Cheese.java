@@ -18,11 +18,6 @@ public class Cheese {
     private final MaturityDate maturityDate;
     private final ExpiryDate expiryDate;
 
-    public Cheese(CheeseType cheeseType, ManufactureDate manufactureDate, MaturityDate maturityDate,
-                  ExpiryDate expiryDate) {
-        this(cheeseType, manufactureDate, maturityDate, expiryDate, CheeseId.getNextId());
-    }
-
     /**
      * Every field must be present and not null.
      */
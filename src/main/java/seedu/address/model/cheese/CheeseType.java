@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Cheese's type in the Cheese Inventory Management System (CHIM).
@@ -14,7 +14,8 @@ import java.util.Map;
 public class CheeseType {
     public static final String MESSAGE_CONSTRAINTS = "Cheese type can take any values, and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\w]+[\\s&\\w+]*";
-    private static final Map<String, CheeseType> typeToCheeseMap = new HashMap<>();
+    // Shared by all threads, as cheeses may be decoded concurrently while loading
+    private static final Map<String, CheeseType> typeToCheeseMap = new ConcurrentHashMap<>();
 
     public final String value;
 
@@ -37,12 +38,8 @@ public class CheeseType {
     }
 
     public static CheeseType getCheeseType(String type) {
-        if (typeToCheeseMap.containsKey(type)) {
-            return typeToCheeseMap.get(type);
-        }
-        CheeseType newCheeseType = new CheeseType(type);
-        typeToCheeseMap.put(type, newCheeseType);
-        return newCheeseType;
+        requireNonNull(type);
+        return typeToCheeseMap.computeIfAbsent(type, CheeseType::new);
     }
 
     public static Map<String, CheeseType> getReadOnlyCheeseTypeMap() {
@@ -22,6 +22,16 @@ public class ExpiryDate extends AbstractDate {
         checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code ExpiryDate} from an already parsed date and time.
+     *
+     * @param dateTime A valid expiry date.
+     */
+    public ExpiryDate(LocalDateTime dateTime) {
+        super(dateTime);
+        checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidManufactureDate(LocalDateTime value) {
         return true;
     }
@@ -22,6 +22,16 @@ public class ManufactureDate extends AbstractDate {
         checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code ManufactureDate} from an already parsed date and time.
+     *
+     * @param dateTime A valid manufacture date.
+     */
+    public ManufactureDate(LocalDateTime dateTime) {
+        super(dateTime);
+        checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidManufactureDate(LocalDateTime value) {
         return true;
     }
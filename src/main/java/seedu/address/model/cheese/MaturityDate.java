@@ -22,6 +22,16 @@ public class MaturityDate extends AbstractDate {
         checkArgument(isValidMaturityDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code MaturityDate} from an already parsed date and time.
+     *
+     * @param dateTime A valid maturity date.
+     */
+    public MaturityDate(LocalDateTime dateTime) {
+        super(dateTime);
+        checkArgument(isValidMaturityDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidMaturityDate(LocalDateTime value) {
         return true;
     }
@@ -0,0 +1,51 @@
+package seedu.address.model.cheese;
+
+/**
+ * Represents the stock of a {@code CheeseType} in the Cheese Inventory Management System (CHIM): how many of its
+ * cheeses are available, reserved by orders, and expired without having been reserved.
+ * Guarantees: immutable
+ */
+public class StockCount {
+
+    /** The stock of a type without any cheeses. */
+    public static final StockCount NONE = new StockCount(0, 0, 0);
+
+    public final int available;
+    public final int reserved;
+    public final int expired;
+
+    /**
+     * Constructs a {@code StockCount}.
+     */
+    public StockCount(int available, int reserved, int expired) {
+        this.available = available;
+        this.reserved = reserved;
+        this.expired = expired;
+    }
+
+    @Override
+    public String toString() {
+        return available + " available, " + reserved + " reserved, " + expired + " expired";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StockCount)) {
+            return false;
+        }
+
+        StockCount otherCount = (StockCount) other;
+        return available == otherCount.available
+                && reserved == otherCount.reserved
+                && expired == otherCount.expired;
+    }
+
+    @Override
+    public int hashCode() {
+        return (available * 31 + reserved) * 31 + expired;
+    }
+}
@@ -3,38 +3,103 @@ package seedu.address.model.cheese;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.cheese.exceptions.CheeseNotFoundException;
 import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
-import seedu.address.model.order.exceptions.DuplicateOrderException;
-import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.util.ChangeFeed;
+import seedu.address.model.util.CopyOnWriteList;
 
 /**
  * A list of Cheese that enforces uniqueness between its elements and does not allow nulls.
- * A Cheese is considered unique by comparing using {@code Cheese#isSameCheese(Cheese)}. As such, adding and updating of
- * cheeses uses Cheese#isSameCheese(Cheese) for equality so as to ensure that the Cheese being added or updated is
- * unique in terms of identity in the UniqueCheeseList. However, the removal of a Cheese uses Cheese#equals(Cheese) so
+ * A Cheese is considered unique by its primary key, the {@code CheeseId}. As such, adding and updating of
+ * cheeses looks up the CheeseId so as to ensure that the Cheese being added or updated is unique in terms of
+ * identity in the UniqueCheeseList. However, the removal of a Cheese uses Cheese#equals(Cheese) so
  * as to ensure that the Cheese with exactly the same fields will be removed.
  *
+ * The list keeps a {@code CheeseId} index, a position index and a {@code CheeseType} index in sync with the
+ * backing list, so that cheeses can be looked up by id or by type without scanning the list. Priority indexes
+ * ordered by expiry date and by maturity date find the cheeses expiring or maturing soonest, or within a window of
+ * dates, in O(log n + k) time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Cheese#isSameCheese(Cheese)
  */
 public class UniqueCheeseList implements Iterable<Cheese> {
-    private final ObservableList<Cheese> internalList = FXCollections.observableArrayList();
+    private final CopyOnWriteList<Cheese> elements = new CopyOnWriteList<>();
+    private final ObservableList<Cheese> internalList = FXCollections.observableList(elements);
     private final ObservableList<Cheese> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Every change made to internalList, for saving only what changed since the last save
+    private final ChangeFeed<Cheese> changes = new ChangeFeed<>();
+
+    // Primary key index and the position of each cheese in internalList
+    private final Map<CheeseId, Cheese> cheesesById = new HashMap<>();
+    private final Map<CheeseId, Integer> positions = new HashMap<>();
+
+    // Secondary index of the cheeses of each type, in insertion order
+    private final Map<CheeseType, Map<CheeseId, Cheese>> cheesesByType = new HashMap<>();
+
+    // Priority indexes of the cheeses by date, each date holding its cheeses in insertion order
+    private final NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> cheesesByExpiryDate = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> cheesesByMaturityDate = new TreeMap<>();
 
     /**
-     * Returns true if the list contains an equivalent cheese as the given argument.
+     * Returns true if the list contains a cheese with the same {@code CheeseId} as the given argument.
      */
     public boolean contains(Cheese toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCheese);
+        return cheesesById.containsKey(toCheck.getCheeseId());
+    }
+
+    /**
+     * Returns the cheese with the given {@code cheeseId}, if it exists in the list.
+     */
+    public Optional<Cheese> findById(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        return Optional.ofNullable(cheesesById.get(cheeseId));
+    }
+
+    /**
+     * Returns all cheeses of the given {@code cheeseType}, in the order they were added.
+     */
+    public List<Cheese> findByType(CheeseType cheeseType) {
+        requireNonNull(cheeseType);
+        Map<CheeseId, Cheese> cheesesOfType = cheesesByType.get(cheeseType);
+        if (cheesesOfType == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(cheesesOfType.values());
+    }
+
+    /**
+     * Returns up to {@code limit} cheeses expiring from {@code from} to {@code to}, both inclusive, the soonest to
+     * expire first.
+     */
+    public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        requireAllNonNull(from, to);
+        return collectSoonest(cheesesByExpiryDate, from, to, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} cheeses maturing from {@code from} to {@code to}, both inclusive, the soonest to
+     * mature first.
+     */
+    public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        requireAllNonNull(from, to);
+        return collectSoonest(cheesesByMaturityDate, from, to, limit);
     }
 
     /**
@@ -44,9 +109,11 @@ public class UniqueCheeseList implements Iterable<Cheese> {
     public void add(Cheese toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
-            throw new DuplicateOrderException();
+            throw new DuplicateCheeseException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
+        changes.record(internalList.size() - 1, 0, List.of(toAdd));
     }
 
     /**
@@ -57,16 +124,19 @@ public class UniqueCheeseList implements Iterable<Cheese> {
     public void setCheese(Cheese target, Cheese editedCheese) {
         requireAllNonNull(target, editedCheese);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
-            throw new OrderNotFoundException();
+            throw new CheeseNotFoundException();
         }
 
         if (!target.isSameCheese(editedCheese) && contains(editedCheese)) {
-            throw new DuplicateOrderException();
+            throw new DuplicateCheeseException();
         }
 
+        unindex(target);
+        index(editedCheese, index);
         internalList.set(index, editedCheese);
+        changes.record(index, 1, List.of(editedCheese));
     }
 
     /**
@@ -75,9 +145,15 @@ public class UniqueCheeseList implements Iterable<Cheese> {
      */
     public void remove(Cheese toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CheeseNotFoundException();
         }
+
+        unindex(toRemove);
+        internalList.remove(index);
+        changes.record(index, 1, List.of());
+        updatePositionsFrom(index);
     }
 
     /**
@@ -86,11 +162,24 @@ public class UniqueCheeseList implements Iterable<Cheese> {
      */
     public void setCheeses(List<Cheese> cheeses) {
         requireAllNonNull(cheeses);
-        if (!cheesesAreUnique(cheeses)) {
-            throw new DuplicateCheeseException();
+        Map<CheeseId, Cheese> replacementById = new HashMap<>();
+        for (Cheese cheese : cheeses) {
+            if (replacementById.put(cheese.getCheeseId(), cheese) != null) {
+                throw new DuplicateCheeseException();
+            }
         }
 
+        cheesesById.clear();
+        positions.clear();
+        cheesesByType.clear();
+        cheesesByExpiryDate.clear();
+        cheesesByMaturityDate.clear();
+        for (int i = 0; i < cheeses.size(); i++) {
+            index(cheeses.get(i), i);
+        }
+        int oldSize = internalList.size();
         internalList.setAll(cheeses);
+        changes.record(0, oldSize, cheeses);
     }
 
     /**
@@ -100,6 +189,20 @@ public class UniqueCheeseList implements Iterable<Cheese> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the list as of now, in constant time.
+     */
+    public List<Cheese> snapshot() {
+        return elements.snapshot();
+    }
+
+    /**
+     * Returns the last change made to the list, from which all later changes can be followed.
+     */
+    public ChangeFeed.Change<Cheese> getLatestChange() {
+        return changes.getLatest();
+    }
+
     @Override
     public Iterator<Cheese> iterator() {
         return internalList.iterator();
@@ -118,16 +221,76 @@ public class UniqueCheeseList implements Iterable<Cheese> {
     }
 
     /**
-     * Returns true if {@code cheeses} contains only unique cheeses.
+     * Returns the position of the cheese equal to {@code cheese} in the backing list, or -1 if there is none.
      */
-    private boolean cheesesAreUnique(List<Cheese> cheeses) {
-        for (int i = 0; i < cheeses.size() - 1; i++) {
-            for (int j = i + 1; j < cheeses.size(); j++) {
-                if (cheeses.get(i).isSameCheese(cheeses.get(j))) {
-                    return false;
+    private int indexOf(Cheese cheese) {
+        Integer index = positions.get(cheese.getCheeseId());
+        if (index == null || !internalList.get(index).equals(cheese)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code cheese}, found at {@code position} of the backing list, to all indexes.
+     */
+    private void index(Cheese cheese, int position) {
+        cheesesById.put(cheese.getCheeseId(), cheese);
+        positions.put(cheese.getCheeseId(), position);
+        cheesesByType.computeIfAbsent(cheese.getCheeseType(), unused -> new LinkedHashMap<>())
+                .put(cheese.getCheeseId(), cheese);
+        cheesesByExpiryDate.computeIfAbsent(cheese.getExpiryDate().value, unused -> new LinkedHashMap<>())
+                .put(cheese.getCheeseId(), cheese);
+        cheesesByMaturityDate.computeIfAbsent(cheese.getMaturityDate().value, unused -> new LinkedHashMap<>())
+                .put(cheese.getCheeseId(), cheese);
+    }
+
+    /**
+     * Removes {@code cheese} from all indexes.
+     */
+    private void unindex(Cheese cheese) {
+        cheesesById.remove(cheese.getCheeseId());
+        positions.remove(cheese.getCheeseId());
+        removeFromIndex(cheesesByType, cheese.getCheeseType(), cheese);
+        removeFromIndex(cheesesByExpiryDate, cheese.getExpiryDate().value, cheese);
+        removeFromIndex(cheesesByMaturityDate, cheese.getMaturityDate().value, cheese);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Map<CheeseId, Cheese>> index, K key, Cheese cheese) {
+        Map<CheeseId, Cheese> cheeses = index.get(key);
+        cheeses.remove(cheese.getCheeseId());
+        if (cheeses.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} cheeses of the priority {@code index} dated from {@code from} to {@code to}, both
+     * inclusive, in order of their dates.
+     */
+    private static List<Cheese> collectSoonest(NavigableMap<LocalDateTime, Map<CheeseId, Cheese>> index,
+            LocalDateTime from, LocalDateTime to, int limit) {
+        List<Cheese> cheeses = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return cheeses;
+        }
+        for (Map<CheeseId, Cheese> cheesesOnDate : index.subMap(from, true, to, true).values()) {
+            for (Cheese cheese : cheesesOnDate.values()) {
+                if (cheeses.size() >= limit) {
+                    return cheeses;
                 }
+                cheeses.add(cheese);
             }
         }
-        return true;
+        return cheeses;
+    }
+
+    /**
+     * Records the positions of all cheeses from {@code start} to the end of the backing list.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getCheeseId(), i);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package seedu.address.model.cheese.exceptions;
+
+/**
+ * Signals that the operation would leave orders referring to a cheese that no longer exists, as the cheese is still
+ * assigned to them.
+ */
+public class CheeseAssignedException extends RuntimeException {
+    public CheeseAssignedException() {
+        super("Operation would remove a cheese still assigned to orders");
+    }
+}
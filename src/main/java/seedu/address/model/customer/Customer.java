@@ -36,9 +36,6 @@ public class Customer {
         this.tags.addAll(tags);
         this.customerId = customerId;
     }
-    public Customer(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        this(name, phone, email, address, tags, CustomerId.getNextId());
-    }
 
     public Name getName() {
         return name;
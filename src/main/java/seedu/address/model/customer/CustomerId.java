@@ -3,39 +3,13 @@ package seedu.address.model.customer;
 import seedu.address.model.AbstractId;
 
 public class CustomerId extends AbstractId<CustomerId> {
-    private static int nextId = 1;
-
     /**
      * Constructs a {@code CustomerId}.
+     * New ids are handed out by the {@link seedu.address.model.IdAllocator} of an address book.
      *
      * @param id A valid id.
      */
-    protected CustomerId(int id) {
+    public CustomerId(int id) {
         super(id);
     }
-
-    public static CustomerId getNextId() {
-        return getNextId(nextId);
-    }
-
-
-    public static CustomerId getNextId(int id) {
-        CustomerId result = new CustomerId(id);
-        updateNextId(result);
-        return result;
-    }
-
-
-    private static void updateNextId(CustomerId otherId) {
-        if (nextId <= otherId.value) {
-            // Do not increment ID if it is creating a stub object
-            // Ensures that the tests will produce customer ids of the same value
-            nextId = otherId.value + 1;
-        }
-    }
-
-    // To be used by stub
-    protected static int getNextIdValue() {
-        return nextId;
-    }
 }
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Customer> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Customer customer) {
         return keywords.stream()
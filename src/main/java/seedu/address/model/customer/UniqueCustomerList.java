@@ -3,13 +3,23 @@ package seedu.address.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.customer.exceptions.CustomerNotFoundException;
 import seedu.address.model.customer.exceptions.DuplicateCustomerException;
+import seedu.address.model.util.ChangeFeed;
+import seedu.address.model.util.CopyOnWriteList;
 
 /**
  * A list of customers that enforces uniqueness between its elements and does not allow nulls.
@@ -18,54 +28,97 @@ import seedu.address.model.customer.exceptions.DuplicateCustomerException;
  * added or updated is unique in terms of identity in the UniqueCustomerList. However, the removal of a customer uses
  * Customer#equals(Object) so as to ensure that the customer with exactly the same fields will be removed.
  *
+ * The list keeps a {@code CustomerId} index and a position index in sync with the backing list, so that customers
+ * can be resolved from the {@code CustomerId} stored in orders without scanning the list. Orders refer to customers
+ * by id alone, so no two customers in the list may have the same id, even if they have different names. An inverted
+ * index from the lower-cased words of each name to the customers whose name has that word answers name searches
+ * without going through the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Customer#isSameCustomer(Customer)
  */
 public class UniqueCustomerList implements Iterable<Customer> {
 
-    private final ObservableList<Customer> internalList = FXCollections.observableArrayList();
+    private final CopyOnWriteList<Customer> elements = new CopyOnWriteList<>();
+    private final ObservableList<Customer> internalList = FXCollections.observableList(elements);
     private final ObservableList<Customer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Every change made to internalList, for saving only what changed since the last save
+    private final ChangeFeed<Customer> changes = new ChangeFeed<>();
+
+    // CustomerId index and the position of each customer in internalList
+    private final Map<CustomerId, Customer> customersById = new HashMap<>();
+    private final Map<Customer, Integer> positions = new HashMap<>();
+    // Lower-cased words of the names of the customers, to the customers whose name has them
+    private final Map<String, Set<Customer>> customersByNameWord = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent customer as the given argument.
      */
     public boolean contains(Customer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCustomer);
+        Customer customerWithId = customersById.get(toCheck.getId());
+        return customerWithId != null && customerWithId.isSameCustomer(toCheck);
+    }
+
+    /**
+     * Returns the customer with the given {@code customerId}, if it exists in the list.
+     */
+    public Optional<Customer> findById(CustomerId customerId) {
+        requireNonNull(customerId);
+        return Optional.ofNullable(customersById.get(customerId));
+    }
+
+    /**
+     * Returns the customers whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Each keyword must be a single word.
+     */
+    public Set<Customer> findByNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Customer> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(customersByNameWord.getOrDefault(normalizeWord(keyword), Collections.emptySet()));
+        }
+        return matches;
     }
 
     /**
      * Adds a customer to the list.
-     * The customer must not already exist in the list.
+     * The customer must not already exist in the list, nor may another customer have its id.
      */
     public void add(Customer toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (customersById.containsKey(toAdd.getId())) {
             throw new DuplicateCustomerException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
+        changes.record(internalList.size() - 1, 0, List.of(toAdd));
     }
 
     /**
      * Replaces the customer {@code target} in the list with {@code editedCustomer}.
      * {@code target} must exist in the list.
-     * The customer identity of {@code editedCustomer} must not be the same as another existing customer in the list.
+     * The customer identity of {@code editedCustomer} must not be the same as another existing customer in the list,
+     * nor may another customer have its id.
      */
     public void setCustomer(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new CustomerNotFoundException();
         }
 
-        if (!target.isSameCustomer(editedCustomer) && contains(editedCustomer)) {
+        if (!target.getId().equals(editedCustomer.getId()) && customersById.containsKey(editedCustomer.getId())) {
             throw new DuplicateCustomerException();
         }
 
+        unindex(target);
+        index(editedCustomer, index);
         internalList.set(index, editedCustomer);
+        changes.record(index, 1, List.of(editedCustomer));
     }
 
     /**
@@ -74,19 +127,25 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void remove(Customer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.get(toRemove);
+        if (index == null) {
             throw new CustomerNotFoundException();
         }
+
+        unindex(toRemove);
+        internalList.remove((int) index);
+        changes.record(index, 1, List.of());
+        updatePositionsFrom(index);
     }
 
     public void setCustomers(UniqueCustomerList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setCustomers(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code customers}.
-     * {@code customers} must not contain duplicate customers.
+     * {@code customers} must not contain duplicate customers, nor customers with the same id.
      */
     public void setCustomers(List<Customer> customers) {
         requireAllNonNull(customers);
@@ -94,7 +153,15 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new DuplicateCustomerException();
         }
 
+        customersById.clear();
+        positions.clear();
+        customersByNameWord.clear();
+        for (int i = 0; i < customers.size(); i++) {
+            index(customers.get(i), i);
+        }
+        int oldSize = internalList.size();
         internalList.setAll(customers);
+        changes.record(0, oldSize, customers);
     }
 
     /**
@@ -104,6 +171,20 @@ public class UniqueCustomerList implements Iterable<Customer> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the list as of now, in constant time.
+     */
+    public List<Customer> snapshot() {
+        return elements.snapshot();
+    }
+
+    /**
+     * Returns the last change made to the list, from which all later changes can be followed.
+     */
+    public ChangeFeed.Change<Customer> getLatestChange() {
+        return changes.getLatest();
+    }
+
     @Override
     public Iterator<Customer> iterator() {
         return internalList.iterator();
@@ -122,14 +203,65 @@ public class UniqueCustomerList implements Iterable<Customer> {
     }
 
     /**
-     * Returns true if {@code customers} contains only unique customers.
+     * Adds {@code customer}, found at {@code position} of the backing list, to all indexes.
+     */
+    private void index(Customer customer, int position) {
+        customersById.put(customer.getId(), customer);
+        positions.put(customer, position);
+        for (String word : nameWordsOf(customer)) {
+            customersByNameWord.computeIfAbsent(word, unused -> new HashSet<>(2)).add(customer);
+        }
+    }
+
+    /**
+     * Removes {@code customer} from all indexes.
+     */
+    private void unindex(Customer customer) {
+        customersById.remove(customer.getId());
+        positions.remove(customer);
+        for (String word : nameWordsOf(customer)) {
+            Set<Customer> customersWithWord = customersByNameWord.get(word);
+            customersWithWord.remove(customer);
+            if (customersWithWord.isEmpty()) {
+                customersByNameWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the words of the name of {@code customer}, as keys of the name index.
+     */
+    private static Set<String> nameWordsOf(Customer customer) {
+        Set<String> words = new HashSet<>();
+        for (String word : customer.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalizeWord(word));
+            }
+        }
+        return words;
+    }
+
+    private static String normalizeWord(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Records the positions of all customers from {@code start} to the end of the backing list.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns true if no two customers in {@code customers} have the same id.
      */
     private boolean customersAreUnique(List<Customer> customers) {
-        for (int i = 0; i < customers.size() - 1; i++) {
-            for (int j = i + 1; j < customers.size(); j++) {
-                if (customers.get(i).isSameCustomer(customers.get(j))) {
-                    return false;
-                }
+        Set<CustomerId> seen = new HashSet<>();
+        for (Customer customer : customers) {
+            if (!seen.add(customer.getId())) {
+                return false;
             }
         }
         return true;
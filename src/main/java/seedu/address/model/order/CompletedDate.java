@@ -21,6 +21,16 @@ public class CompletedDate extends AbstractDate {
         checkArgument(isValidCompletedDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code CompletedDate} from an already parsed date and time.
+     *
+     * @param dateTime A valid completed date.
+     */
+    public CompletedDate(LocalDateTime dateTime) {
+        super(dateTime);
+        checkArgument(isValidCompletedDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidCompletedDate(LocalDateTime value) {
         return true;
     }
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.cheese.CheeseId;
@@ -30,16 +31,6 @@ public class Order {
     // Set of cheese IDs for this order
     private final Set<CheeseId> cheeses = new HashSet<>();
 
-    public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate,
-                 CompletedDate completedDate, CustomerId customerId) {
-        this(cheeseType, quantity, orderDate, completedDate, new HashSet<>(), customerId);
-    }
-
-    public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate, CompletedDate completedDate,
-                 Set<CheeseId> cheeses, CustomerId customerId) {
-        this(cheeseType, quantity, orderDate, completedDate, cheeses, OrderId.getNextId(), customerId);
-    }
-
     public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate, CompletedDate completedDate,
                  OrderId orderId, CustomerId customerId) {
         this(cheeseType, quantity, orderDate, completedDate, new HashSet<>(), orderId, customerId);
@@ -126,10 +117,16 @@ public class Order {
                 && otherOrder.getCheeseType().equals(getCheeseType())
                 && otherOrder.getQuantity().equals(getQuantity())
                 && otherOrder.getOrderDate().equals(getOrderDate())
-                && otherOrder.getCompletedDate().equals(getCompletedDate())
+                && Objects.equals(otherOrder.getCompletedDate(), getCompletedDate())
                 && otherOrder.getCheeses().equals(getCheeses());
     }
 
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(orderId, customerId, orderCheeseType, quantity, orderDate, completedDate, cheeses);
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -142,7 +139,7 @@ public class Order {
             .append("; Order Date: ")
             .append(getOrderDate())
             .append("; Completed Date: ")
-            .append(getCompletedDate())
+            .append(getCompletedDate() == null ? "pending" : getCompletedDate())
             .append("; Customer ID: ")
             .append(getCustomerId())
             .append("; Cheese IDs: ")
@@ -0,0 +1,24 @@
+package seedu.address.model.order;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * A store of the completed orders that have been moved out of the address book to keep it small.
+ * Archived orders are never modified, and are only read when historical data is asked for.
+ */
+@FunctionalInterface
+public interface OrderArchive {
+
+    /** An archive without any orders. */
+    OrderArchive EMPTY = Collections::emptyList;
+
+    /**
+     * Returns the archived orders, in the order they were archived.
+     *
+     * @throws DataConversionException if the archive could not be read.
+     */
+    List<Order> readOrders() throws DataConversionException;
+}
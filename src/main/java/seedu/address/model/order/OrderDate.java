@@ -22,6 +22,16 @@ public class OrderDate extends AbstractDate {
         checkArgument(isValidOrderDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code OrderDate} from an already parsed date and time.
+     *
+     * @param dateTime A valid order date.
+     */
+    public OrderDate(LocalDateTime dateTime) {
+        super(dateTime);
+        checkArgument(isValidOrderDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidOrderDate(LocalDateTime value) {
         return true;
     }
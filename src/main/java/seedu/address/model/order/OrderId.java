@@ -3,25 +3,13 @@ package seedu.address.model.order;
 import seedu.address.model.AbstractId;
 
 public class OrderId extends AbstractId<OrderId> {
-    private static int nextId = 1;
-
     /**
      * Constructs a {@code OrderId}.
+     * New ids are handed out by the {@link seedu.address.model.IdAllocator} of an address book.
      *
      * @param id A valid id.
      */
     public OrderId(int id) {
         super(id);
-        updateNextId(this);
-    }
-
-    public static OrderId getNextId() {
-        return new OrderId(nextId);
-    }
-
-    private static void updateNextId(OrderId otherId) {
-        if (nextId <= otherId.value) {
-            nextId = otherId.value + 1;
-        }
     }
 }
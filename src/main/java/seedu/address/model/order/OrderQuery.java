@@ -0,0 +1,130 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.cheese.CheeseType;
+
+/**
+ * Tests that an {@code Order} matches every criterion set on the query: the id of the customer who placed it, the
+ * type of cheese ordered, a range of order dates and whether it has been completed. Criteria that are not set match
+ * every order.
+ *
+ * {@link UniqueOrderList#findOrders(OrderQuery)} answers a query from the most selective index over its criteria
+ * instead of testing every order.
+ */
+public class OrderQuery implements Predicate<Order> {
+    private Integer customerId;
+    private CheeseType cheeseType;
+    private LocalDateTime orderDateFrom;
+    private LocalDateTime orderDateTo;
+    private Boolean isCompleted;
+
+    public OrderQuery() {}
+
+    /**
+     * Copy constructor.
+     */
+    public OrderQuery(OrderQuery toCopy) {
+        setCustomerId(toCopy.customerId);
+        setCheeseType(toCopy.cheeseType);
+        setOrderDateFrom(toCopy.orderDateFrom);
+        setOrderDateTo(toCopy.orderDateTo);
+        setCompleted(toCopy.isCompleted);
+    }
+
+    /**
+     * Returns true if at least one criterion is set.
+     */
+    public boolean isAnyCriterionSet() {
+        return customerId != null || cheeseType != null || orderDateFrom != null || orderDateTo != null
+                || isCompleted != null;
+    }
+
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Optional<Integer> getCustomerId() {
+        return Optional.ofNullable(customerId);
+    }
+
+    public void setCheeseType(CheeseType cheeseType) {
+        this.cheeseType = cheeseType;
+    }
+
+    public Optional<CheeseType> getCheeseType() {
+        return Optional.ofNullable(cheeseType);
+    }
+
+    /**
+     * Sets the earliest order date matched, inclusive.
+     */
+    public void setOrderDateFrom(LocalDateTime orderDateFrom) {
+        this.orderDateFrom = orderDateFrom;
+    }
+
+    public Optional<LocalDateTime> getOrderDateFrom() {
+        return Optional.ofNullable(orderDateFrom);
+    }
+
+    /**
+     * Sets the latest order date matched, inclusive.
+     */
+    public void setOrderDateTo(LocalDateTime orderDateTo) {
+        this.orderDateTo = orderDateTo;
+    }
+
+    public Optional<LocalDateTime> getOrderDateTo() {
+        return Optional.ofNullable(orderDateTo);
+    }
+
+    /**
+     * Sets whether the orders matched have been completed.
+     */
+    public void setCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+
+    public Optional<Boolean> isCompleted() {
+        return Optional.ofNullable(isCompleted);
+    }
+
+    @Override
+    public boolean test(Order order) {
+        requireNonNull(order);
+        LocalDateTime orderDate = order.getOrderDate().value;
+        return (customerId == null || order.getCustomerId().value == customerId)
+                && (cheeseType == null || order.getCheeseType().equals(cheeseType))
+                && (orderDateFrom == null || !orderDate.isBefore(orderDateFrom))
+                && (orderDateTo == null || !orderDate.isAfter(orderDateTo))
+                && (isCompleted == null || (order.getCompletedDate() != null) == isCompleted);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof OrderQuery)) {
+            return false;
+        }
+
+        OrderQuery otherQuery = (OrderQuery) other;
+        return Objects.equals(customerId, otherQuery.customerId)
+                && Objects.equals(cheeseType, otherQuery.cheeseType)
+                && Objects.equals(orderDateFrom, otherQuery.orderDateFrom)
+                && Objects.equals(orderDateTo, otherQuery.orderDateTo)
+                && Objects.equals(isCompleted, otherQuery.isCompleted);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId, cheeseType, orderDateFrom, orderDateTo, isCompleted);
+    }
+}
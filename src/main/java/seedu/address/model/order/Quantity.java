@@ -39,4 +39,9 @@ public class Quantity {
             || (other instanceof Quantity // instanceof handles nulls
             && value == ((Quantity) other).value); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
 }
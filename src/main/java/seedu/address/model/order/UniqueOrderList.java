@@ -3,36 +3,149 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.exceptions.DuplicateOrderException;
 import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.util.ChangeFeed;
+import seedu.address.model.util.CopyOnWriteList;
 
 /**
  * A list of Order that enforces uniqueness between its elements and does not allow nulls.
- * A Order is considered unique by comparing using {@code Order#isSameOrder(Order)}. As such, adding and updating of
- * orders uses Order#isSameOrder(Order) for equality so as to ensure that the Order being added or updated is
- * unique in terms of identity in the UniqueOrderList. However, the removal of a Order uses Order#equals(Object) so
+ * A Order is considered unique by its primary key, the {@code OrderId}. As such, adding and updating of
+ * orders looks up the OrderId so as to ensure that the Order being added or updated is unique in terms of
+ * identity in the UniqueOrderList. However, the removal of a Order uses Order#equals(Object) so
  * as to ensure that the Order with exactly the same fields will be removed.
  *
+ * The list keeps an {@code OrderId} index and a position index in sync with the backing list, so that
+ * membership checks, lookups and locating an order to replace or remove do not scan the list. Secondary indexes
+ * by customer, cheese type, order date and completion answer {@link OrderQuery}s from the most selective of them,
+ * and sorted indexes by order date and completed date answer date range queries in O(log n + k) time. The orders
+ * of a customer, and the orders a cheese is assigned to, are found in O(k) time for k such orders.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Order#isSameOrder(Order)
  */
 public class UniqueOrderList implements Iterable<Order> {
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
+    private final CopyOnWriteList<Order> elements = new CopyOnWriteList<>();
+    private final ObservableList<Order> internalList = FXCollections.observableList(elements);
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Every change made to internalList, for saving only what changed since the last save
+    private final ChangeFeed<Order> changes = new ChangeFeed<>();
+
+    // Primary key index and the position of each order in internalList
+    private final Map<OrderId, Order> ordersById = new HashMap<>();
+    private final Map<OrderId, Integer> positions = new HashMap<>();
+
+    // Secondary indexes over the orders in internalList, used by findOrders and the date range queries
+    private final Map<CustomerId, Set<Order>> ordersByCustomerId = new HashMap<>();
+    private final Map<CheeseType, Set<Order>> ordersByCheeseType = new HashMap<>();
+    private final Map<CheeseId, Set<Order>> ordersByCheeseId = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Order>> ordersByOrderDate = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, Set<Order>> ordersByCompletedDate = new TreeMap<>();
+    private final Set<Order> completedOrders = new HashSet<>();
+    private final Set<Order> pendingOrders = new HashSet<>();
 
     /**
-     * Returns true if the list contains an equivalent order as the given argument.
+     * Returns true if the list contains an order with the same {@code OrderId} as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        return ordersById.containsKey(toCheck.getOrderId());
+    }
+
+    /**
+     * Returns the order with the given {@code orderId}, if it exists in the list.
+     */
+    public Optional<Order> findById(OrderId orderId) {
+        requireNonNull(orderId);
+        return Optional.ofNullable(ordersById.get(orderId));
+    }
+
+    /**
+     * Returns the orders in the list matching {@code query}.
+     * Only the orders in the smallest index entry over the criteria of the query are tested against it, and the
+     * whole list only when the query has no indexed criteria.
+     */
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+
+        Collection<Order> candidates = internalList;
+        if (query.getCustomerId().isPresent()) {
+            candidates = smallerOf(candidates,
+                    ordersByCustomerId.getOrDefault(new CustomerId(query.getCustomerId().get()),
+                            Collections.emptySet()));
+        }
+        if (query.getCheeseType().isPresent()) {
+            candidates = smallerOf(candidates,
+                    ordersByCheeseType.getOrDefault(query.getCheeseType().get(), Collections.emptySet()));
+        }
+        if (query.isCompleted().isPresent()) {
+            candidates = smallerOf(candidates, query.isCompleted().get() ? completedOrders : pendingOrders);
+        }
+        if (query.getOrderDateFrom().isPresent() || query.getOrderDateTo().isPresent()) {
+            candidates = smallerOf(candidates, collectRange(
+                    rangeOf(ordersByOrderDate, query.getOrderDateFrom(), query.getOrderDateTo()),
+                    candidates.size()));
+        }
+
+        return candidates.stream().filter(query).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the orders placed from {@code from} to {@code to}, both inclusive, in order of their order dates.
+     * An empty bound leaves that end of the range open.
+     */
+    public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        requireAllNonNull(from, to);
+        return collectRange(rangeOf(ordersByOrderDate, from, to), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the orders completed from {@code from} to {@code to}, both inclusive, in order of their completed
+     * dates. An empty bound leaves that end of the range open.
+     */
+    public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        requireAllNonNull(from, to);
+        return collectRange(rangeOf(ordersByCompletedDate, from, to), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the orders of the customer with the given {@code customerId}.
+     */
+    public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        return new ArrayList<>(ordersByCustomerId.getOrDefault(customerId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the orders the cheese with the given {@code cheeseId} is assigned to.
+     */
+    public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+        requireNonNull(cheeseId);
+        return new ArrayList<>(ordersByCheeseId.getOrDefault(cheeseId, Collections.emptySet()));
     }
 
     /**
@@ -44,7 +157,11 @@ public class UniqueOrderList implements Iterable<Order> {
         if (contains(toAdd)) {
             throw new DuplicateOrderException();
         }
+        ordersById.put(toAdd.getOrderId(), toAdd);
+        positions.put(toAdd.getOrderId(), internalList.size());
+        index(toAdd);
         internalList.add(toAdd);
+        changes.record(internalList.size() - 1, 0, List.of(toAdd));
     }
 
     /**
@@ -55,16 +172,26 @@ public class UniqueOrderList implements Iterable<Order> {
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new OrderNotFoundException();
         }
 
-        if (!target.isSameOrder(editedOrder) && contains(editedOrder)) {
+        boolean isSameKey = target.getOrderId().equals(editedOrder.getOrderId());
+        if (!isSameKey && contains(editedOrder)) {
             throw new DuplicateOrderException();
         }
 
+        if (!isSameKey) {
+            ordersById.remove(target.getOrderId());
+            positions.remove(target.getOrderId());
+        }
+        unindex(target);
+        ordersById.put(editedOrder.getOrderId(), editedOrder);
+        positions.put(editedOrder.getOrderId(), index);
+        index(editedOrder);
         internalList.set(index, editedOrder);
+        changes.record(index, 1, List.of(editedOrder));
     }
 
     /**
@@ -73,9 +200,54 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void remove(Order toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new OrderNotFoundException();
         }
+
+        ordersById.remove(toRemove.getOrderId());
+        positions.remove(toRemove.getOrderId());
+        unindex(toRemove);
+        internalList.remove(index);
+        changes.record(index, 1, List.of());
+        updatePositionsFrom(index);
+    }
+
+    /**
+     * Removes the equivalent orders of {@code toRemove} from the list, renumbering the positions of the orders
+     * after them in a single pass instead of once for each order removed.
+     * Every order must exist in the list, and the list is left unchanged if one does not.
+     */
+    public void removeAll(Collection<Order> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet removedPositions = new BitSet(internalList.size());
+        for (Order order : toRemove) {
+            int index = indexOf(order);
+            if (index == -1) {
+                throw new OrderNotFoundException();
+            }
+            removedPositions.set(index);
+        }
+        if (removedPositions.isEmpty()) {
+            return;
+        }
+
+        for (int i = removedPositions.nextSetBit(0); i >= 0; i = removedPositions.nextSetBit(i + 1)) {
+            Order order = internalList.get(i);
+            ordersById.remove(order.getOrderId());
+            positions.remove(order.getOrderId());
+            unindex(order);
+        }
+        // Each run of adjacent orders is removed as one change, from the back so that the runs before it keep their
+        // positions
+        int end = removedPositions.length();
+        while (end > 0) {
+            int start = removedPositions.previousClearBit(end - 1) + 1;
+            internalList.remove(start, end);
+            changes.record(start, end - start, List.of());
+            end = removedPositions.previousSetBit(start - 1) + 1;
+        }
+        updatePositionsFrom(removedPositions.nextSetBit(0));
     }
 
     /**
@@ -84,11 +256,28 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void setOrders(List<Order> orders) {
         requireAllNonNull(orders);
-        if (!ordersAreUnique(orders)) {
-            throw new DuplicateOrderException();
+        Map<OrderId, Order> replacementById = new HashMap<>();
+        for (Order order : orders) {
+            if (replacementById.put(order.getOrderId(), order) != null) {
+                throw new DuplicateOrderException();
+            }
         }
 
+        ordersById.clear();
+        ordersById.putAll(replacementById);
+        int oldSize = internalList.size();
         internalList.setAll(orders);
+        changes.record(0, oldSize, orders);
+        positions.clear();
+        updatePositionsFrom(0);
+        ordersByCustomerId.clear();
+        ordersByCheeseType.clear();
+        ordersByCheeseId.clear();
+        ordersByOrderDate.clear();
+        ordersByCompletedDate.clear();
+        completedOrders.clear();
+        pendingOrders.clear();
+        internalList.forEach(this::index);
     }
 
     /**
@@ -98,6 +287,20 @@ public class UniqueOrderList implements Iterable<Order> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the list as of now, in constant time.
+     */
+    public List<Order> snapshot() {
+        return elements.snapshot();
+    }
+
+    /**
+     * Returns the last change made to the list, from which all later changes can be followed.
+     */
+    public ChangeFeed.Change<Order> getLatestChange() {
+        return changes.getLatest();
+    }
+
     @Override
     public Iterator<Order> iterator() {
         return internalList.iterator();
@@ -116,16 +319,107 @@ public class UniqueOrderList implements Iterable<Order> {
     }
 
     /**
-     * Returns true if {@code orders} contains only unique orders.
+     * Adds {@code order} to the secondary indexes.
      */
-    private boolean ordersAreUnique(List<Order> orders) {
-        for (int i = 0; i < orders.size() - 1; i++) {
-            for (int j = i + 1; j < orders.size(); j++) {
-                if (orders.get(i).isSameOrder(orders.get(j))) {
-                    return false;
-                }
+    private void index(Order order) {
+        ordersByCustomerId.computeIfAbsent(order.getCustomerId(), unused -> new HashSet<>()).add(order);
+        ordersByCheeseType.computeIfAbsent(order.getCheeseType(), unused -> new HashSet<>()).add(order);
+        for (CheeseId cheeseId : order.getCheeses()) {
+            ordersByCheeseId.computeIfAbsent(cheeseId, unused -> new HashSet<>(2)).add(order);
+        }
+        ordersByOrderDate.computeIfAbsent(order.getOrderDate().value, unused -> new LinkedHashSet<>(2)).add(order);
+        if (order.getCompletedDate() != null) {
+            ordersByCompletedDate.computeIfAbsent(order.getCompletedDate().value, unused -> new LinkedHashSet<>(2))
+                    .add(order);
+            completedOrders.add(order);
+        } else {
+            pendingOrders.add(order);
+        }
+    }
+
+    /**
+     * Removes {@code order} from the secondary indexes.
+     */
+    private void unindex(Order order) {
+        removeFromIndex(ordersByCustomerId, order.getCustomerId(), order);
+        removeFromIndex(ordersByCheeseType, order.getCheeseType(), order);
+        for (CheeseId cheeseId : order.getCheeses()) {
+            removeFromIndex(ordersByCheeseId, cheeseId, order);
+        }
+        removeFromIndex(ordersByOrderDate, order.getOrderDate().value, order);
+        if (order.getCompletedDate() != null) {
+            removeFromIndex(ordersByCompletedDate, order.getCompletedDate().value, order);
+            completedOrders.remove(order);
+        } else {
+            pendingOrders.remove(order);
+        }
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Order>> index, K key, Order order) {
+        Set<Order> orders = index.get(key);
+        orders.remove(order);
+        if (orders.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the entries of the sorted {@code index} from {@code from} to {@code to}, both inclusive.
+     * An empty bound leaves that end of the range open.
+     */
+    private static NavigableMap<LocalDateTime, Set<Order>> rangeOf(NavigableMap<LocalDateTime, Set<Order>> index,
+            Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        if (from.isPresent() && to.isPresent()) {
+            return from.get().isAfter(to.get())
+                    ? Collections.emptyNavigableMap()
+                    : index.subMap(from.get(), true, to.get(), true);
+        } else if (from.isPresent()) {
+            return index.tailMap(from.get(), true);
+        } else if (to.isPresent()) {
+            return index.headMap(to.get(), true);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the orders in {@code range} in order, or null if there are at least {@code limit} of them, since they
+     * would then not be fewer candidates than the ones already found.
+     */
+    private static List<Order> collectRange(NavigableMap<LocalDateTime, Set<Order>> range, int limit) {
+        List<Order> orders = new ArrayList<>();
+        for (Set<Order> ordersOnDate : range.values()) {
+            orders.addAll(ordersOnDate);
+            if (orders.size() >= limit) {
+                return null;
             }
         }
-        return true;
+        return orders;
+    }
+
+    /**
+     * Returns the smaller of {@code candidates} and {@code other}, treating a null {@code other} as larger.
+     */
+    private static Collection<Order> smallerOf(Collection<Order> candidates, Collection<Order> other) {
+        return other != null && other.size() < candidates.size() ? other : candidates;
+    }
+
+    /**
+     * Returns the position of the order equal to {@code order} in the backing list, or -1 if there is none.
+     */
+    private int indexOf(Order order) {
+        Integer index = positions.get(order.getOrderId());
+        if (index == null || !internalList.get(index).equals(order)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the positions of all orders from {@code start} to the end of the backing list.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getOrderId(), i);
+        }
     }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records the changes made to a list one after another, so that they can be followed from any earlier change.
+ * Each change replaces a range of the list with new elements, as a {@code ListChangeListener.Change} does.
+ * A change only links to the change recorded after it, so the changes no one holds on to any more are garbage
+ * collected.
+ *
+ * Changes must be recorded by one thread at a time, but they can be followed from any thread that got hold of a
+ * change after it was recorded.
+ */
+public class ChangeFeed<E> {
+
+    // The start of the feed is a change that changes nothing
+    private Change<E> latest = new Change<>(0, 0, Collections.emptyList());
+
+    /**
+     * Returns the change recorded last.
+     */
+    public Change<E> getLatest() {
+        return latest;
+    }
+
+    /**
+     * Records that the {@code removedSize} elements from index {@code from} were replaced by {@code added}.
+     */
+    public void record(int from, int removedSize, List<? extends E> added) {
+        Change<E> change = new Change<>(from, removedSize, added);
+        latest.next = change;
+        latest = change;
+    }
+
+    /**
+     * A change to a list, which replaced the {@code removedSize} elements from index {@code from} by
+     * {@code added}.
+     */
+    public static class Change<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+        // Set once, when the change after this one is recorded
+        private volatile Change<E> next;
+
+        private Change(int from, int removedSize, List<? extends E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = List.copyOf(added);
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getRemovedSize() {
+            return removedSize;
+        }
+
+        public List<E> getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns the changes recorded after this one, up to and including {@code last}, in the order they were
+         * recorded, or an empty {@code Optional} if {@code last} was not recorded after this change in the same feed.
+         */
+        public Optional<List<Change<E>>> changesUntil(Change<E> last) {
+            List<Change<E>> changes = new ArrayList<>();
+            for (Change<E> change = this; change != last; ) {
+                change = change.next;
+                if (change == null) {
+                    return Optional.empty();
+                }
+                changes.add(change);
+            }
+            return Optional.of(changes);
+        }
+    }
+}
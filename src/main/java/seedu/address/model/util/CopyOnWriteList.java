@@ -0,0 +1,136 @@
+package seedu.address.model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An array-backed list whose immutable snapshots are taken in constant time.
+ * A snapshot shares the backing array of the list, and the list copies the array before it is next modified, so
+ * modifying the list never changes a snapshot. Taking any number of snapshots between two modifications costs a
+ * single copy of the array, and modifications with no snapshot taken in between cost the same as an
+ * {@code ArrayList}'s.
+ *
+ * The list itself is not thread-safe, but a snapshot can be read from any thread once it is handed over.
+ */
+public class CopyOnWriteList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    private Object[] elements = EMPTY_ELEMENTS;
+    private int size;
+    // True if elements is shared with a snapshot, and so must be copied before it is modified
+    private boolean isShared;
+
+    /**
+     * Returns an immutable snapshot of the list as of now.
+     */
+    public List<E> snapshot() {
+        isShared = true;
+        return new Snapshot<>(elements, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E oldElement = get(index);
+        prepareForWrite(size);
+        elements[index] = element;
+        return oldElement;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        prepareForWrite(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E oldElement = get(index);
+        removeRange(index, index + 1);
+        return oldElement;
+    }
+
+    @Override
+    public void clear() {
+        if (isShared) {
+            elements = EMPTY_ELEMENTS;
+            isShared = false;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        prepareForWrite(size);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Ensures the backing array is not shared with any snapshot and holds at least {@code minCapacity} elements.
+     */
+    private void prepareForWrite(int minCapacity) {
+        if (!isShared && minCapacity <= elements.length) {
+            return;
+        }
+        int capacity = elements.length;
+        if (minCapacity > capacity) {
+            capacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        }
+        elements = Arrays.copyOf(elements, capacity);
+        isShared = false;
+    }
+
+    /**
+     * The elements of a {@code CopyOnWriteList} as of when the snapshot was taken.
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
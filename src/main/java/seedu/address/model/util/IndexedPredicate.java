@@ -0,0 +1,47 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose matches among the current elements of a list were already looked up in an index.
+ * Until {@link #markApplied()} is called, an element is tested by whether it is one of those matches, so filtering
+ * the list by it never evaluates {@code predicate}. Afterwards, the elements added or edited since are tested by
+ * {@code predicate} itself, so that the filtered list stays up to date.
+ */
+public class IndexedPredicate<T> implements Predicate<T> {
+
+    // Compared by identity, as the matches are the very elements in the list
+    private final Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Predicate<? super T> predicate;
+    private boolean isApplied;
+
+    /**
+     * Creates a predicate matching {@code matches}, which must be all the current elements matching
+     * {@code predicate}.
+     */
+    public IndexedPredicate(Collection<? extends T> matches, Predicate<? super T> predicate) {
+        requireAllNonNull(matches, predicate);
+        this.matches.addAll(matches);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Marks that the list has been filtered by this predicate, so that later elements are tested by
+     * {@code predicate}.
+     */
+    public void markApplied() {
+        isApplied = true;
+        matches.clear();
+    }
+
+    @Override
+    public boolean test(T element) {
+        return isApplied ? predicate.test(element) : matches.contains(element);
+    }
+}
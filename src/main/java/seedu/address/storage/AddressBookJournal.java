@@ -0,0 +1,298 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookReader.CHEESES_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.CUSTOMERS_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.ORDERS_FIELD;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.storage.JsonAddressBookReader.ModelTypeConverter;
+import seedu.address.storage.JsonAddressBookWriter.RecordWriter;
+
+/**
+ * Reads and writes the journal of {@link JournaledAddressBookStorage}.
+ * The journal is a header line holding the checksum of the snapshot it applies to, followed by one json line per
+ * {@link Change} to a list of the address book. Changes are only ever appended, and replaying them in order on
+ * top of the snapshot gives back the lists as they were at the last append.
+ */
+class AddressBookJournal {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains a change outside of the %s list!";
+
+    static final String SNAPSHOT_CHECKSUM_FIELD = "snapshotChecksum";
+    static final String COLLECTION_FIELD = "collection";
+    static final String FROM_FIELD = "from";
+    static final String REMOVED_FIELD = "removed";
+    static final String ADDED_FIELD = "added";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    /**
+     * Replaces {@code journalFile} with an empty journal for the snapshot with the given checksum.
+     */
+    public static void reset(Path journalFile, long snapshotChecksum) throws IOException {
+        FileUtil.writeAtomically(journalFile, out -> {
+            JsonGenerator generator = createGenerator(out);
+            generator.writeStartObject();
+            generator.writeNumberField(SNAPSHOT_CHECKSUM_FIELD, snapshotChecksum);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        });
+    }
+
+    /**
+     * Appends {@code changes} to {@code journalFile}, which must exist, and syncs them to the disk together.
+     */
+    public static void append(Path journalFile, List<Change<?>> changes) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            JsonGenerator generator = createGenerator(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            for (Change<?> change : changes) {
+                change.write(generator);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the changes in {@code journalFile} to the lists read from the snapshot whose checksum is
+     * {@code snapshotChecksum}, and returns the number of changes applied.
+     * A journal of another snapshot, left behind by an interrupted compaction, is ignored as its changes are
+     * already part of the snapshot. A change that cannot be parsed is ignored only if it is the last line of the
+     * journal and is not ended by a line break, which is how a change torn by a crash during an append shows up.
+     *
+     * @throws IOException if the journal cannot be read, or its header or any change before the last line is not
+     *     in the expected json format.
+     * @throws IllegalValueException if there were any data constraints violated in a change.
+     */
+    public static int replay(Path journalFile, long snapshotChecksum, List<Customer> customers,
+            List<Cheese> cheeses, List<Order> orders) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(journalFile)) {
+            if (readSnapshotChecksum(parser) != snapshotChecksum) {
+                logger.info("Ignoring journal " + journalFile + " as it does not belong to the current snapshot");
+                return 0;
+            }
+
+            int appliedChanges = 0;
+            // Where the last change read in full, or the header, ends
+            long endOfLastChange = parser.getCurrentLocation().getByteOffset();
+            try {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readChange(parser, customers, cheeses, orders);
+                    appliedChanges++;
+                    endOfLastChange = parser.getCurrentLocation().getByteOffset();
+                }
+            } catch (JsonProcessingException jpe) {
+                if (!isTornLastLine(journalFile, endOfLastChange)) {
+                    throw jpe;
+                }
+                logger.warning("Ignoring incomplete change at the end of journal " + journalFile + ": " + jpe);
+            }
+            return appliedChanges;
+        }
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code file}, as recorded in the header of a journal.
+     */
+    public static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns true if the rest of {@code journalFile} from {@code offset}, after the line break ending the line there,
+     * is a single line that is not ended by a line break, as left behind by an interrupted append.
+     */
+    private static boolean isTornLastLine(Path journalFile, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile)) {
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(offset)));
+            if (in.read() != '\n') {
+                return false;
+            }
+            for (int next = in.read(); next != -1; next = in.read()) {
+                if (next == '\n') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        // One change per line, with no separators between them
+        return JsonUtil.createGenerator(out).setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    private static long readSnapshotChecksum(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT
+                || parser.nextToken() != JsonToken.FIELD_NAME
+                || !SNAPSHOT_CHECKSUM_FIELD.equals(parser.getCurrentName())
+                || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, "Journal should start with the checksum of its snapshot");
+        }
+        long snapshotChecksum = parser.getLongValue();
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Journal header ended unexpectedly");
+        }
+        return snapshotChecksum;
+    }
+
+    /**
+     * Reads the change at the current position of {@code parser} and applies it to the matching list.
+     * Nothing is applied unless the whole change could be read.
+     */
+    private static void readChange(JsonParser parser, List<Customer> customers, List<Cheese> cheeses,
+            List<Order> orders) throws IOException, IllegalValueException {
+        String collection = null;
+        int from = 0;
+        int removed = 0;
+        List<?> added = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+            case COLLECTION_FIELD:
+                collection = parser.getValueAsString();
+                break;
+            case FROM_FIELD:
+                from = parser.getValueAsInt();
+                break;
+            case REMOVED_FIELD:
+                removed = parser.getValueAsInt();
+                break;
+            case ADDED_FIELD:
+                added = readAdded(parser, collection);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT || collection == null) {
+            throw new JsonParseException(parser, "Journal change ended unexpectedly");
+        }
+
+        switch (collection) {
+        case CUSTOMERS_FIELD:
+            apply(customers, from, removed, cast(added), collection);
+            break;
+        case CHEESES_FIELD:
+            apply(cheeses, from, removed, cast(added), collection);
+            break;
+        case ORDERS_FIELD:
+            apply(orders, from, removed, cast(added), collection);
+            break;
+        default:
+            throw new JsonParseException(parser, "Journal change is for an unknown list: " + collection);
+        }
+    }
+
+    private static List<?> readAdded(JsonParser parser, String collection) throws IOException,
+            IllegalValueException {
+        if (collection == null) {
+            throw new JsonParseException(parser, "Journal change should name its list before the added records");
+        }
+
+        switch (collection) {
+        case CUSTOMERS_FIELD:
+            return readRecords(parser, JsonAdaptedCustomer.class, JsonAdaptedCustomer::toModelType);
+        case CHEESES_FIELD:
+            return readRecords(parser, JsonAdaptedCheese.class, JsonAdaptedCheese::toModelType);
+        case ORDERS_FIELD:
+            return readRecords(parser, JsonAdaptedOrder.class, JsonAdaptedOrder::toModelType);
+        default:
+            throw new JsonParseException(parser, "Journal change is for an unknown list: " + collection);
+        }
+    }
+
+    private static <T, U> List<U> readRecords(JsonParser parser, Class<T> adaptedClass,
+            ModelTypeConverter<T, U> converter) throws IOException, IllegalValueException {
+        List<U> records = new ArrayList<>();
+        JsonAddressBookReader.readRecords(parser, adaptedClass, converter, records);
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> added) {
+        // The type of the added records was picked from the same collection name in readAdded
+        return (List<T>) added;
+    }
+
+    private static <T> void apply(List<T> list, int from, int removed, List<T> added, String collection)
+            throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, collection));
+        }
+        List<T> range = list.subList(from, from + removed);
+        range.clear();
+        range.addAll(added);
+    }
+
+    /**
+     * A change to one list of the address book: {@code removed} elements starting at index {@code from} are
+     * replaced by the elements in {@code added}, as reported by a {@code ListChangeListener.Change}.
+     */
+    static class Change<T> {
+        private final String collection;
+        private final int from;
+        private final int removed;
+        private final List<T> added;
+        private final RecordWriter<T> recordWriter;
+
+        Change(String collection, int from, int removed, List<T> added, RecordWriter<T> recordWriter) {
+            this.collection = collection;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+            this.recordWriter = recordWriter;
+        }
+
+        private void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLLECTION_FIELD, collection);
+            generator.writeNumberField(FROM_FIELD, from);
+            generator.writeNumberField(REMOVED_FIELD, removed);
+            JsonAddressBookWriter.writeRecords(generator, ADDED_FIELD, added, recordWriter);
+            generator.writeEndObject();
+        }
+    }
+}
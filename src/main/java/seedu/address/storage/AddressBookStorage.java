@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes any saved data that has not been written to the storage yet, and returns once it has been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
 }
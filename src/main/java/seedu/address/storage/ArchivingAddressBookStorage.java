@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+
+/**
+ * An {@code AddressBookStorage} that moves old completed orders out of the address book into a
+ * {@link JsonOrderArchive}.
+ * When the address book is read, the orders completed more than {@code archiveAgeDays} days ago are appended to the
+ * archive and left out of the address book returned, which is saved again without them. From then on they are
+ * neither held in memory nor rewritten by saves, and are only read back from the archive when asked for.
+ */
+public class ArchivingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ArchivingAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final JsonOrderArchive orderArchive;
+    private final int archiveAgeDays;
+
+    /**
+     * Creates a storage that archives the orders of {@code addressBookStorage} in {@code orderArchive} once they
+     * have been completed for {@code archiveAgeDays} days.
+     */
+    public ArchivingAddressBookStorage(AddressBookStorage addressBookStorage, JsonOrderArchive orderArchive,
+            int archiveAgeDays) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(orderArchive);
+        this.addressBookStorage = addressBookStorage;
+        this.orderArchive = orderArchive;
+        this.archiveAgeDays = archiveAgeDays;
+    }
+
+    public JsonOrderArchive getOrderArchive() {
+        return orderArchive;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Orders are only archived when reading from the wrapped storage's own location.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (!addressBook.isPresent() || !filePath.equals(getAddressBookFilePath())) {
+            return addressBook;
+        }
+
+        // Archived orders keep their ids, which must not be handed out to new orders
+        AddressBook loaded = addressBook.get() instanceof AddressBook
+                ? (AddressBook) addressBook.get()
+                : new AddressBook(addressBook.get());
+        try {
+            int highestArchivedOrderId = orderArchive.readHighestOrderId();
+            if (highestArchivedOrderId > 0) {
+                loaded.getIdAllocator().markTaken(new OrderId(highestArchivedOrderId));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to read the highest archived order id: " + ioe);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAgeDays);
+        Map<Boolean, List<Order>> ordersByIsArchived = loaded.getOrderList().stream()
+                .collect(Collectors.partitioningBy(order -> order.getCompletedDate() != null
+                        && order.getCompletedDate().value.isBefore(cutoff)));
+        List<Order> toArchive = ordersByIsArchived.get(true);
+        if (toArchive.isEmpty()) {
+            return Optional.of(loaded);
+        }
+
+        try {
+            orderArchive.append(toArchive);
+        } catch (IOException ioe) {
+            logger.warning("Failed to archive completed orders, keeping them in the address book: " + ioe);
+            return Optional.of(loaded);
+        }
+        logger.info("Archived " + toArchive.size() + " completed orders in " + orderArchive.getFilePath());
+
+        // The loaded book is not shared yet, so the kept orders replace its orders in place
+        loaded.setOrders(ordersByIsArchived.get(false));
+        try {
+            addressBookStorage.saveAddressBook(loaded);
+        } catch (IOException ioe) {
+            // The archived orders are left out of the next successful save, and read only once from the archive
+            logger.warning("Failed to save the address book without its archived orders: " + ioe);
+        }
+        return Optional.of(loaded);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves in the background.
+ * Saving only takes a copy of the address book and returns. The copy is written to the wrapped storage on a
+ * dedicated thread once no other save has been requested for {@code quietPeriodMillis}, or at the latest
+ * {@code maxDelayMillis} after the first save that is still pending, so a burst of saves costs a single write.
+ * Failures of background writes are passed to the failure handler, and the failed copy is written again unless a
+ * newer one has replaced it: by the next write, or by a retry in the background, first {@code maxDelayMillis} after the
+ * failure and then twice as long after each failure in a row, up to {@link #MAX_RETRY_DELAY_MILLIS}.
+ * {@link #flush()} writes any pending copy before returning.
+ */
+public class AutosavingAddressBookStorage implements AddressBookStorage {
+
+    /** The longest wait before a failed background write is tried again. */
+    public static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final Logger logger = LogsCenter.getLogger(AutosavingAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long quietPeriodMillis;
+    private final long maxDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private long firstPendingRequestNanos;
+    private ScheduledFuture<?> scheduledWrite;
+    // The wait before the last background retry, or 0 if the last write succeeded
+    private long retryDelayMillis;
+
+    /**
+     * Creates a storage that writes to {@code addressBookStorage} in the background, and reports failed writes to
+     * {@code failureHandler} on the background thread.
+     */
+    public AutosavingAddressBookStorage(AddressBookStorage addressBookStorage, long quietPeriodMillis,
+            long maxDelayMillis, Consumer<IOException> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a copy of {@code addressBook} to be written in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        // Taken on the caller's thread, as the address book may be modified while the copy is being written
+        ReadOnlyAddressBook copy = addressBook.snapshot();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (pendingAddressBook == null) {
+                firstPendingRequestNanos = now;
+            }
+            pendingAddressBook = copy;
+
+            long quietDeadline = now + TimeUnit.MILLISECONDS.toNanos(quietPeriodMillis);
+            long latestDeadline = firstPendingRequestNanos + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+            long delay = Math.max(0, Math.min(quietDeadline, latestDeadline) - now);
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+            scheduledWrite = executor.schedule(this::writeInBackground, delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than the wrapped storage's own is done immediately.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+        } else {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Writes the pending copy, if any, and waits for it to be written.
+     *
+     * @throws IOException if the pending copy could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Flushes the pending copy and stops the background thread. No saves may be requested afterwards.
+     *
+     * @throws IOException if the pending copy could not be written.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePending();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the address book in the background: " + ioe);
+            scheduleRetry();
+            failureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Schedules the failed copy to be written again, unless a newer copy has already been scheduled.
+     */
+    private synchronized void scheduleRetry() {
+        if (pendingAddressBook == null || scheduledWrite != null) {
+            return;
+        }
+        retryDelayMillis = retryDelayMillis == 0
+                ? Math.min(maxDelayMillis, MAX_RETRY_DELAY_MILLIS)
+                : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        logger.info("Retrying the save of the address book in " + retryDelayMillis + "ms");
+        scheduledWrite = executor.schedule(this::writeInBackground, retryDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending copy, if any. Only called on the background thread, so writes never overlap.
+     */
+    private void writePending() throws IOException {
+        ReadOnlyAddressBook toWrite;
+        synchronized (this) {
+            toWrite = pendingAddressBook;
+            pendingAddressBook = null;
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+        if (toWrite == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(toWrite);
+            synchronized (this) {
+                retryDelayMillis = 0;
+            }
+        } catch (IOException ioe) {
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = toWrite;
+                    firstPendingRequestNanos = System.nanoTime();
+                }
+            }
+            throw ioe;
+        }
+    }
+}
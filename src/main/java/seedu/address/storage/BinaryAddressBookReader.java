@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.ExpiryDate;
+import seedu.address.model.cheese.ManufactureDate;
+import seedu.address.model.cheese.MaturityDate;
+import seedu.address.model.customer.Address;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.Email;
+import seedu.address.model.customer.Name;
+import seedu.address.model.customer.Phone;
+import seedu.address.model.order.CompletedDate;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDate;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Decodes the records of a binary AddressBook file straight from a {@code ByteBuffer}, usually one mapping the file.
+ *
+ * The file starts with a header of {@link #HEADER_SIZE} bytes holding the magic number, the format version and the
+ * number of customers, cheeses, orders, pool entries and strings. The customers, cheeses and orders follow as
+ * fixed-width records, so any record can be decoded on its own from its index. Ids are stored as ints and dates as
+ * longs counting the minutes since the epoch, with {@link #NO_DATE} standing for the completed date of a pending
+ * order. Names, addresses, cheese types and other strings are stored once in a
+ * string table at the end of the file, which the records refer to by index, and the tags of customers and cheese ids
+ * of orders are runs of ints in a pool between the records and the string table. Strings are only decoded the first
+ * time they are needed.
+ */
+class BinaryAddressBookReader {
+
+    public static final int MAGIC = 0x4348494D; // "CHIM"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 7 * Integer.BYTES;
+    // Never the minutes of a valid date, as converting it to seconds overflows
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_TRUNCATED_FILE = "Binary address book is truncated";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary address book record refers to a missing entry";
+
+    // id, name, phone, email, address, first tag in the pool, tag count
+    private static final int CUSTOMER_RECORD_SIZE = 7 * Integer.BYTES;
+    // id, cheese type, manufacture date, maturity date, expiry date
+    private static final int CHEESE_RECORD_SIZE = 2 * Integer.BYTES + 3 * Long.BYTES;
+    // id, cheese type, quantity, customer id, first cheese id in the pool, cheese id count, order date, completed date
+    private static final int ORDER_RECORD_SIZE = 6 * Integer.BYTES + 2 * Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int customerCount;
+    private final int cheeseCount;
+    private final int orderCount;
+    private final int poolSize;
+    private final int customersOffset;
+    private final int cheesesOffset;
+    private final int ordersOffset;
+    private final int poolOffset;
+    private final int stringIndexOffset;
+    private final int stringsOffset;
+    private final String[] strings;
+
+    /**
+     * Creates a reader of the binary address book in {@code buffer}, checking its header.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a binary address book of a supported version.
+     */
+    BinaryAddressBookReader(ByteBuffer buffer) throws IllegalValueException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        customerCount = buffer.getInt(2 * Integer.BYTES);
+        cheeseCount = buffer.getInt(3 * Integer.BYTES);
+        orderCount = buffer.getInt(4 * Integer.BYTES);
+        poolSize = buffer.getInt(5 * Integer.BYTES);
+        int stringCount = buffer.getInt(6 * Integer.BYTES);
+        if (customerCount < 0 || cheeseCount < 0 || orderCount < 0 || poolSize < 0 || stringCount < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+
+        // Only used once the check below has shown that all offsets lie within the buffer
+        long offset = HEADER_SIZE;
+        customersOffset = (int) offset;
+        offset += (long) customerCount * CUSTOMER_RECORD_SIZE;
+        cheesesOffset = (int) offset;
+        offset += (long) cheeseCount * CHEESE_RECORD_SIZE;
+        ordersOffset = (int) offset;
+        offset += (long) orderCount * ORDER_RECORD_SIZE;
+        poolOffset = (int) offset;
+        offset += (long) poolSize * Integer.BYTES;
+        stringIndexOffset = (int) offset;
+        offset += (long) stringCount * Integer.BYTES;
+        if (offset > buffer.limit()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+        }
+        stringsOffset = (int) offset;
+        strings = new String[stringCount];
+    }
+
+    /**
+     * Reads the records stored in {@code filePath}, which must exist, into the given lists without checking that
+     * they form a valid address book. The file is mapped into memory rather than read into the heap.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a binary address book or any record is invalid.
+     */
+    static void readInto(Path filePath, List<Customer> customers, List<Cheese> cheeses, List<Order> orders)
+            throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary address book " + filePath + " is too large to be mapped");
+            }
+            BinaryAddressBookReader reader = new BinaryAddressBookReader(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            for (int i = 0; i < reader.getCustomerCount(); i++) {
+                customers.add(reader.getCustomer(i));
+            }
+            for (int i = 0; i < reader.getCheeseCount(); i++) {
+                cheeses.add(reader.getCheese(i));
+            }
+            for (int i = 0; i < reader.getOrderCount(); i++) {
+                orders.add(reader.getOrder(i));
+            }
+        }
+    }
+
+    int getCustomerCount() {
+        return customerCount;
+    }
+
+    int getCheeseCount() {
+        return cheeseCount;
+    }
+
+    int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Decodes the customer at {@code index}.
+     *
+     * @throws IllegalValueException if the customer is invalid.
+     */
+    Customer getCustomer(int index) throws IllegalValueException {
+        int position = customersOffset + index * CUSTOMER_RECORD_SIZE;
+        int id = buffer.getInt(position);
+        String name = getString(buffer.getInt(position + Integer.BYTES));
+        String phone = getString(buffer.getInt(position + 2 * Integer.BYTES));
+        String email = getString(buffer.getInt(position + 3 * Integer.BYTES));
+        String address = getString(buffer.getInt(position + 4 * Integer.BYTES));
+        int tagsStart = buffer.getInt(position + 5 * Integer.BYTES);
+        int tagCount = buffer.getInt(position + 6 * Integer.BYTES);
+
+        try {
+            Set<Tag> tags = new HashSet<>();
+            for (int tagIndex : getPoolEntries(tagsStart, tagCount)) {
+                tags.add(new Tag(getString(tagIndex)));
+            }
+            return new Customer(new Name(name), new Phone(phone), new Email(email), new Address(address), tags,
+                    new CustomerId(id));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the cheese at {@code index}.
+     *
+     * @throws IllegalValueException if the cheese is invalid.
+     */
+    Cheese getCheese(int index) throws IllegalValueException {
+        int position = cheesesOffset + index * CHEESE_RECORD_SIZE;
+        int id = buffer.getInt(position);
+        String cheeseType = getString(buffer.getInt(position + Integer.BYTES));
+        LocalDateTime manufactureDate = getDate(position + 2 * Integer.BYTES);
+        LocalDateTime maturityDate = getDate(position + 2 * Integer.BYTES + Long.BYTES);
+        LocalDateTime expiryDate = getDate(position + 2 * Integer.BYTES + 2 * Long.BYTES);
+
+        try {
+            return new Cheese(CheeseType.getCheeseType(cheeseType), new ManufactureDate(manufactureDate),
+                    new MaturityDate(maturityDate), new ExpiryDate(expiryDate), new CheeseId(id));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the order at {@code index}.
+     *
+     * @throws IllegalValueException if the order is invalid.
+     */
+    Order getOrder(int index) throws IllegalValueException {
+        int position = ordersOffset + index * ORDER_RECORD_SIZE;
+        int id = buffer.getInt(position);
+        String cheeseType = getString(buffer.getInt(position + Integer.BYTES));
+        int quantity = buffer.getInt(position + 2 * Integer.BYTES);
+        int customerId = buffer.getInt(position + 3 * Integer.BYTES);
+        int cheeseIdsStart = buffer.getInt(position + 4 * Integer.BYTES);
+        int cheeseIdCount = buffer.getInt(position + 5 * Integer.BYTES);
+        LocalDateTime orderDate = getDate(position + 6 * Integer.BYTES);
+        int completedDatePosition = position + 6 * Integer.BYTES + Long.BYTES;
+        LocalDateTime completedDate = buffer.getLong(completedDatePosition) == NO_DATE
+                ? null
+                : getDate(completedDatePosition);
+
+        try {
+            Set<CheeseId> cheeseIds = new HashSet<>();
+            for (int cheeseId : getPoolEntries(cheeseIdsStart, cheeseIdCount)) {
+                cheeseIds.add(new CheeseId(cheeseId));
+            }
+            return new Order(CheeseType.getCheeseType(cheeseType), new Quantity(quantity),
+                    new OrderDate(orderDate), completedDate == null ? null : new CompletedDate(completedDate),
+                    cheeseIds, new OrderId(id), new CustomerId(customerId));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the string at {@code index} of the string table, decoding it if it has not been decoded before.
+     */
+    private String getString(int index) throws IllegalValueException {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        if (strings[index] == null) {
+            long position = (long) stringsOffset + buffer.getInt(stringIndexOffset + index * Integer.BYTES);
+            if (position < stringsOffset || position + Integer.BYTES > buffer.limit()) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            int length = buffer.getInt((int) position);
+            if (length < 0 || position + Integer.BYTES + length > buffer.limit()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+            }
+
+            byte[] bytes = new byte[length];
+            ByteBuffer view = buffer.duplicate();
+            view.position((int) position + Integer.BYTES);
+            view.get(bytes);
+            strings[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Returns the {@code count} pool entries starting at {@code start}.
+     */
+    private int[] getPoolEntries(int start, int count) throws IllegalValueException {
+        if (start < 0 || count < 0 || (long) start + count > poolSize) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        int[] entries = new int[count];
+        for (int i = 0; i < count; i++) {
+            entries[i] = buffer.getInt(poolOffset + (start + i) * Integer.BYTES);
+        }
+        return entries;
+    }
+
+    private LocalDateTime getDate(int position) throws IllegalValueException {
+        long epochMinutes = buffer.getLong(position);
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinutes, 60L), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * The file is mapped into memory and its fixed-width records are decoded straight from it by
+ * {@link BinaryAddressBookReader}, without any text parsing, so opening the address book is much faster than reading
+ * the same data from json.
+ *
+ * Json files are still supported for importing and exporting: reading or saving to a path ending in
+ * {@link #JSON_FILE_EXTENSION} uses the json format, and the json file given on creation is imported if the binary
+ * file does not exist yet.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path importFilePath;
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}, which imports the json file at
+     * {@code importFilePath} while the binary file does not exist.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path importFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(importFilePath);
+        this.filePath = filePath;
+        this.importFilePath = importFilePath;
+    }
+
+    /**
+     * Returns the location of the binary file kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        if (!Files.exists(filePath) && Files.exists(importFilePath)) {
+            logger.info("Binary file " + filePath + " not found, importing " + importFilePath);
+            return readAddressBook(importFilePath);
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file whose name ends in {@link #JSON_FILE_EXTENSION} is read as json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        List<Cheese> cheeses = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        try {
+            BinaryAddressBookReader.readInto(filePath, customers, cheeses, orders);
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(customers, cheeses, orders));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * A file whose name ends in {@link #JSON_FILE_EXTENSION} is written as json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            JsonAddressBookWriter.write(addressBook, filePath);
+        } else {
+            BinaryAddressBookWriter.write(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Saves are written immediately
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION);
+    }
+}
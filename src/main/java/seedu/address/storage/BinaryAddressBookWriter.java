@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookReader.HEADER_SIZE;
+import static seedu.address.storage.BinaryAddressBookReader.MAGIC;
+import static seedu.address.storage.BinaryAddressBookReader.NO_DATE;
+import static seedu.address.storage.BinaryAddressBookReader.VERSION;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AbstractDate;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook in the binary layout read by {@link BinaryAddressBookReader}.
+ */
+class BinaryAddressBookWriter {
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<Integer> pool = new ArrayList<>();
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing file.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        new BinaryAddressBookWriter().writeAddressBook(addressBook, filePath);
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Customer> customers = addressBook.getCustomerList();
+        List<Cheese> cheeses = addressBook.getCheeseList();
+        List<Order> orders = addressBook.getOrderList();
+
+        // The records refer to the string table and the pool by index, so both are filled in before writing
+        int[][] customerRecords = new int[customers.size()][];
+        for (int i = 0; i < customers.size(); i++) {
+            customerRecords[i] = toRecord(customers.get(i));
+        }
+        int[][] orderRecords = new int[orders.size()][];
+        for (int i = 0; i < orders.size(); i++) {
+            orderRecords[i] = toRecord(orders.get(i));
+        }
+        int[] cheeseTypes = new int[cheeses.size()];
+        for (int i = 0; i < cheeses.size(); i++) {
+            cheeseTypes[i] = indexOf(cheeses.get(i).getCheeseType().value);
+        }
+        List<byte[]> encodedStrings = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            encodedStrings.add(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        FileUtil.writeAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(customers.size());
+            out.writeInt(cheeses.size());
+            out.writeInt(orders.size());
+            out.writeInt(pool.size());
+            out.writeInt(strings.size());
+            assert out.size() == HEADER_SIZE;
+
+            for (int[] record : customerRecords) {
+                writeInts(out, record);
+            }
+            for (int i = 0; i < cheeses.size(); i++) {
+                Cheese cheese = cheeses.get(i);
+                out.writeInt(cheese.getCheeseId().value);
+                out.writeInt(cheeseTypes[i]);
+                out.writeLong(toEpochMinutes(cheese.getManufactureDate()));
+                out.writeLong(toEpochMinutes(cheese.getMaturityDate()));
+                out.writeLong(toEpochMinutes(cheese.getExpiryDate()));
+            }
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                writeInts(out, orderRecords[i]);
+                out.writeLong(toEpochMinutes(order.getOrderDate()));
+                out.writeLong(order.getCompletedDate() == null ? NO_DATE : toEpochMinutes(order.getCompletedDate()));
+            }
+            for (int value : pool) {
+                out.writeInt(value);
+            }
+
+            int offset = 0;
+            for (byte[] encoded : encodedStrings) {
+                out.writeInt(offset);
+                offset += Integer.BYTES + encoded.length;
+            }
+            for (byte[] encoded : encodedStrings) {
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * Returns the fixed-width fields of {@code customer}, adding its strings and tags to the string table and pool.
+     */
+    private int[] toRecord(Customer customer) {
+        int tagsStart = pool.size();
+        for (Tag tag : customer.getTags()) {
+            pool.add(indexOf(tag.tagName));
+        }
+        return new int[] {
+            customer.getId().value,
+            indexOf(customer.getName().fullName),
+            indexOf(customer.getPhone().value),
+            indexOf(customer.getEmail().value),
+            indexOf(customer.getAddress().value),
+            tagsStart,
+            customer.getTags().size()
+        };
+    }
+
+    /**
+     * Returns the int fields of {@code order}, adding its cheese type and cheese ids to the string table and pool.
+     */
+    private int[] toRecord(Order order) {
+        int cheeseIdsStart = pool.size();
+        for (CheeseId cheeseId : order.getCheeses()) {
+            pool.add(cheeseId.value);
+        }
+        return new int[] {
+            order.getOrderId().value,
+            indexOf(order.getCheeseType().value),
+            order.getQuantity().value,
+            order.getCustomerId().value,
+            cheeseIdsStart,
+            order.getCheeses().size()
+        };
+    }
+
+    /**
+     * Returns the index of {@code string} in the string table, adding it if it is not there yet.
+     */
+    private int indexOf(String string) {
+        return stringIndexes.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static long toEpochMinutes(AbstractDate date) {
+        LocalDateTime value = date.value;
+        return Math.floorDiv(value.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAddressBookReader.CHEESES_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.CUSTOMERS_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.ORDERS_FIELD;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.util.ChangeFeed;
+import seedu.address.storage.JsonAddressBookWriter.RecordWriter;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot and an append-only journal of changes on the hard disk.
+ * The first save writes a snapshot. From then on, each save follows the change feeds of the lists of the address
+ * book from the version saved last, and only appends the changes since then to the journal, syncing them to the disk
+ * together. As snapshots of an address book share its change feeds, saving any later snapshot of it appends too.
+ * Once the journal holds {@code compactionThreshold} changes, the next save writes a new snapshot and empties the
+ * journal instead. Reading replays the journal on top of the snapshot.
+ *
+ * The snapshot is in the same format as the file of {@link JsonAddressBookStorage}, and the journal is kept next to
+ * it, with {@link #JOURNAL_FILE_SUFFIX} appended to its name.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // The last change to each list of the address book saved last
+    private ChangeFeed.Change<Customer> savedCustomerChange;
+    private ChangeFeed.Change<Cheese> savedCheeseChange;
+    private ChangeFeed.Change<Order> savedOrderChange;
+    private int journalSize;
+    private boolean isSnapshotRequired = true;
+
+    /**
+     * Creates a storage that writes a new snapshot once its journal holds {@code compactionThreshold} changes.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        List<Cheese> cheeses = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            JsonAddressBookReader.readInto(filePath, customers, cheeses, orders);
+            if (Files.exists(journalFilePath)) {
+                int appliedChanges = AddressBookJournal.replay(journalFilePath,
+                        AddressBookJournal.checksumOf(filePath), customers, cheeses, orders);
+                logger.info("Replayed " + appliedChanges + " changes from journal " + journalFilePath);
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(customers, cheeses, orders));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves the changes made to {@code addressBook} since it was last saved, as followed from its change feeds.
+     * A new snapshot is written instead if {@code addressBook} is not a later version of the address book saved
+     * last, if the journal is due for compaction, or if the previous save failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<List<AddressBookJournal.Change<?>>> changes = isSnapshotRequired
+                ? Optional.empty()
+                : changesSinceLastSave(addressBook);
+        if (changes.isEmpty() || journalSize + changes.get().size() >= compactionThreshold) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        if (!changes.get().isEmpty()) {
+            try {
+                AddressBookJournal.append(getJournalFilePath(filePath), changes.get());
+            } catch (IOException ioe) {
+                // The journal may now end with a torn change, so nothing more can be appended to it
+                isSnapshotRequired = true;
+                throw ioe;
+            }
+            journalSize += changes.get().size();
+        }
+        markSaved(addressBook);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than this storage's own writes a snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+        } else {
+            JsonAddressBookWriter.write(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Saves are written immediately
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} followed by an empty journal.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        isSnapshotRequired = true;
+
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out ->
+                JsonAddressBookWriter.write(addressBook, new CheckedOutputStream(out, checksum)));
+        AddressBookJournal.reset(getJournalFilePath(filePath), checksum.getValue());
+
+        journalSize = 0;
+        isSnapshotRequired = false;
+        markSaved(addressBook);
+    }
+
+    /**
+     * Records {@code addressBook} as the version of the address book saved last.
+     */
+    private void markSaved(ReadOnlyAddressBook addressBook) {
+        savedCustomerChange = addressBook.getLatestCustomerChange();
+        savedCheeseChange = addressBook.getLatestCheeseChange();
+        savedOrderChange = addressBook.getLatestOrderChange();
+    }
+
+    /**
+     * Returns the changes to append to the journal to bring the address book saved last up to {@code addressBook},
+     * or an empty {@code Optional} if {@code addressBook} is not a later version of it.
+     */
+    private Optional<List<AddressBookJournal.Change<?>>> changesSinceLastSave(ReadOnlyAddressBook addressBook) {
+        List<AddressBookJournal.Change<?>> changes = new ArrayList<>();
+        boolean isLaterVersion = addChanges(changes, CUSTOMERS_FIELD, savedCustomerChange,
+                addressBook.getLatestCustomerChange(), JsonAddressBookWriter::writeCustomer)
+                && addChanges(changes, CHEESES_FIELD, savedCheeseChange,
+                        addressBook.getLatestCheeseChange(), JsonAddressBookWriter::writeCheese)
+                && addChanges(changes, ORDERS_FIELD, savedOrderChange,
+                        addressBook.getLatestOrderChange(), JsonAddressBookWriter::writeOrder);
+        return isLaterVersion ? Optional.of(changes) : Optional.empty();
+    }
+
+    /**
+     * Adds the changes made to {@code collection} after {@code saved} up to {@code latest} to {@code changes}.
+     * Returns false if {@code latest} does not follow {@code saved}.
+     */
+    private static <T> boolean addChanges(List<AddressBookJournal.Change<?>> changes, String collection,
+            ChangeFeed.Change<T> saved, ChangeFeed.Change<T> latest, RecordWriter<T> recordWriter) {
+        Optional<List<ChangeFeed.Change<T>>> changesSinceSaved = saved.changesUntil(latest);
+        if (changesSinceSaved.isEmpty()) {
+            return false;
+        }
+        for (ChangeFeed.Change<T> change : changesSinceSaved.get()) {
+            changes.add(new AddressBookJournal.Change<>(collection, change.getFrom(), change.getRemovedSize(),
+                    change.getAdded(), recordWriter));
+        }
+        return true;
+    }
+}
@@ -18,6 +18,12 @@ class JsonAdaptedCheese {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Cheese's %s field is missing!";
 
+    public static final String CHEESE_ID_FIELD = "cheeseId";
+    public static final String CHEESE_TYPE_FIELD = "cheeseType";
+    public static final String MANUFACTURE_DATE_FIELD = "manufactureDate";
+    public static final String MATURITY_DATE_FIELD = "maturityDate";
+    public static final String EXPIRY_DATE_FIELD = "expiryDate";
+
     private final Integer cheeseId;
     private final String cheeseType;
     private final String manufactureDate;
@@ -28,11 +34,11 @@ class JsonAdaptedCheese {
      * Constructs a {@code JsonAdaptedCheese} with the given cheese details.
      */
     @JsonCreator
-    public JsonAdaptedCheese(@JsonProperty("cheeseId") Integer cheeseId,
-                             @JsonProperty("cheeseType") String cheeseType,
-                             @JsonProperty("manufactureDate") String manufactureDate,
-                             @JsonProperty("maturityDate") String maturityDate,
-                             @JsonProperty("expiryDate") String expiryDate) {
+    public JsonAdaptedCheese(@JsonProperty(CHEESE_ID_FIELD) Integer cheeseId,
+                             @JsonProperty(CHEESE_TYPE_FIELD) String cheeseType,
+                             @JsonProperty(MANUFACTURE_DATE_FIELD) String manufactureDate,
+                             @JsonProperty(MATURITY_DATE_FIELD) String maturityDate,
+                             @JsonProperty(EXPIRY_DATE_FIELD) String expiryDate) {
         this.cheeseId = cheeseId;
         this.cheeseType = cheeseType;
         this.manufactureDate = manufactureDate;
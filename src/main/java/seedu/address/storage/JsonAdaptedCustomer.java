@@ -25,6 +25,13 @@ class JsonAdaptedCustomer {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Customer's %s field is missing!";
 
+    public static final String NAME_FIELD = "name";
+    public static final String PHONE_FIELD = "phone";
+    public static final String EMAIL_FIELD = "email";
+    public static final String ADDRESS_FIELD = "address";
+    public static final String CUSTOMER_ID_FIELD = "customerId";
+    public static final String TAGGED_FIELD = "tagged";
+
     private final String name;
     private final String phone;
     private final String email;
@@ -36,10 +43,10 @@ class JsonAdaptedCustomer {
      * Constructs a {@code JsonAdaptedCustomer} with the given customer details.
      */
     @JsonCreator
-    public JsonAdaptedCustomer(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                               @JsonProperty("email") String email, @JsonProperty("address") String address,
-                               @JsonProperty("customerId") Integer customerId,
-                               @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedCustomer(@JsonProperty(NAME_FIELD) String name, @JsonProperty(PHONE_FIELD) String phone,
+                               @JsonProperty(EMAIL_FIELD) String email, @JsonProperty(ADDRESS_FIELD) String address,
+                               @JsonProperty(CUSTOMER_ID_FIELD) Integer customerId,
+                               @JsonProperty(TAGGED_FIELD) List<JsonAdaptedTag> tagged) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -115,7 +122,7 @@ class JsonAdaptedCustomer {
         if (!CustomerId.isValidId(customerId)) {
             throw new IllegalValueException(CustomerId.MESSAGE_CONSTRAINTS);
         }
-        final CustomerId modelId = CustomerId.getNextId(customerId);
+        final CustomerId modelId = new CustomerId(customerId);
 
         final Set<Tag> modelTags = new HashSet<>(customerTags);
         return new Customer(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelId);
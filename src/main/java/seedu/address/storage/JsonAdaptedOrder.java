@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +25,14 @@ class JsonAdaptedOrder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
 
+    public static final String ORDER_ID_FIELD = "orderId";
+    public static final String CHEESE_TYPE_FIELD = "cheeseType";
+    public static final String QUANTITY_FIELD = "quantity";
+    public static final String ORDER_DATE_FIELD = "orderDate";
+    public static final String COMPLETED_DATE_FIELD = "completedDate";
+    public static final String CUSTOMER_ID_FIELD = "customerId";
+    public static final String CHEESE_IDS_FIELD = "cheeseIds";
+
     private final Integer orderId;
     private final String cheeseType;
     private final Integer quantity;
@@ -36,13 +45,13 @@ class JsonAdaptedOrder {
      * Constructs a {@code JsonAdaptedOrder} with the given order details.
      */
     @JsonCreator
-    public JsonAdaptedOrder(@JsonProperty("orderId") Integer orderId,
-                            @JsonProperty("cheeseType") String cheeseType,
-                            @JsonProperty("quantity") Integer quantity,
-                            @JsonProperty("orderDate") String orderDate,
-                            @JsonProperty("completedDate") String completedDate,
-                            @JsonProperty("customerId") Integer customerId,
-                            @JsonProperty("cheeseIds") List<Integer> cheeseIds) {
+    public JsonAdaptedOrder(@JsonProperty(ORDER_ID_FIELD) Integer orderId,
+                            @JsonProperty(CHEESE_TYPE_FIELD) String cheeseType,
+                            @JsonProperty(QUANTITY_FIELD) Integer quantity,
+                            @JsonProperty(ORDER_DATE_FIELD) String orderDate,
+                            @JsonProperty(COMPLETED_DATE_FIELD) String completedDate,
+                            @JsonProperty(CUSTOMER_ID_FIELD) Integer customerId,
+                            @JsonProperty(CHEESE_IDS_FIELD) List<Integer> cheeseIds) {
         this.orderId = orderId;
         this.cheeseType = cheeseType;
         this.quantity = quantity;
@@ -62,7 +71,7 @@ class JsonAdaptedOrder {
         cheeseType = source.getCheeseType().value;
         quantity = source.getQuantity().value;
         orderDate = source.getOrderDate().toString();
-        completedDate = source.getCompletedDate().toString();
+        completedDate = source.getCompletedDate() == null ? null : source.getCompletedDate().toString();
         customerId = source.getCustomerId().value;
         cheeseIds.addAll(source.getCheeses().stream()
                     .map(x -> x.value)
@@ -109,14 +118,11 @@ class JsonAdaptedOrder {
         }
         final OrderDate modelOrderDate = new OrderDate(orderDate);
 
-        if (completedDate == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                CompletedDate.class.getSimpleName()));
-        }
-        if (!CompletedDate.isValidDate(completedDate)) {
+        // A missing completed date is that of a pending order
+        if (completedDate != null && !CompletedDate.isValidDate(completedDate)) {
             throw new IllegalValueException(CompletedDate.MESSAGE_CONSTRAINTS);
         }
-        final CompletedDate modelCompletedDate = new CompletedDate(completedDate);
+        final CompletedDate modelCompletedDate = completedDate == null ? null : new CompletedDate(completedDate);
 
         if (customerId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -125,8 +131,9 @@ class JsonAdaptedOrder {
         if (!CustomerId.isValidId(customerId)) {
             throw new IllegalValueException(CustomerId.MESSAGE_CONSTRAINTS);
         }
-        final CustomerId modelCustomerId = CustomerId.getNextId(customerId);
+        final CustomerId modelCustomerId = new CustomerId(customerId);
 
-        return new Order(modelCheeseType, modelQuantity, modelOrderDate, modelCompletedDate, modelId, modelCustomerId);
+        return new Order(modelCheeseType, modelQuantity, modelOrderDate, modelCompletedDate,
+                new HashSet<>(orderCheeses), modelId, modelCustomerId);
     }
 }
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+
+/**
+ * Reads an AddressBook json file one record at a time.
+ * Each customer, cheese and order is bound, converted into its model type and discarded before the next record
+ * is read, so neither the file contents nor the Jackson-friendly copies of the records are held in memory as a whole.
+ * The file layout is the one written for {@link JsonSerializableAddressBook}.
+ *
+ * Alternatively, the records can all be bound first and then converted on a fork-join pool, trading the memory for
+ * the Jackson-friendly copies of the records for the use of several cores.
+ */
+class JsonAddressBookReader {
+
+    public static final String CUSTOMERS_FIELD = "customers";
+    public static final String CHEESES_FIELD = "cheeses";
+    public static final String ORDERS_FIELD = "orders";
+
+    /**
+     * Reads the address book stored in {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        List<Customer> customers = new ArrayList<>();
+        List<Cheese> cheeses = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        readInto(filePath, customers, cheeses, orders);
+        return JsonSerializableAddressBook.toAddressBook(customers, cheeses, orders);
+    }
+
+    /**
+     * Reads the address book stored in {@code filePath}, which must exist, converting the records on {@code pool}.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @see ParallelRecordDecoder
+     */
+    public static AddressBook readInParallel(Path filePath, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedCustomer> customers = new ArrayList<>();
+        List<JsonAdaptedCheese> cheeses = new ArrayList<>();
+        List<JsonAdaptedOrder> orders = new ArrayList<>();
+        readInto(filePath, adapted -> adapted, customers, adapted -> adapted, cheeses, adapted -> adapted, orders);
+        return new ParallelRecordDecoder(pool).decode(customers, cheeses, orders);
+    }
+
+    /**
+     * Reads the records stored in {@code filePath}, which must exist, into the given lists without checking that
+     * they form a valid address book.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected json format.
+     * @throws IllegalValueException if there were any data constraints violated in a record.
+     */
+    static void readInto(Path filePath, List<Customer> customers, List<Cheese> cheeses, List<Order> orders)
+            throws IOException, IllegalValueException {
+        readInto(filePath, JsonAdaptedCustomer::toModelType, customers, JsonAdaptedCheese::toModelType, cheeses,
+                JsonAdaptedOrder::toModelType, orders);
+    }
+
+    /**
+     * Reads the records stored in {@code filePath}, which must exist, into the given lists, converting each kind of
+     * record with the given converter.
+     */
+    private static <C, H, O> void readInto(Path filePath,
+            ModelTypeConverter<JsonAdaptedCustomer, C> customerConverter, List<C> customers,
+            ModelTypeConverter<JsonAdaptedCheese, H> cheeseConverter, List<H> cheeses,
+            ModelTypeConverter<JsonAdaptedOrder, O> orderConverter, List<O> orders)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Address book file should contain a json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                switch (fieldName) {
+                case CUSTOMERS_FIELD:
+                    readRecords(parser, JsonAdaptedCustomer.class, customerConverter, customers);
+                    break;
+                case CHEESES_FIELD:
+                    readRecords(parser, JsonAdaptedCheese.class, cheeseConverter, cheeses);
+                    break;
+                case ORDERS_FIELD:
+                    readRecords(parser, JsonAdaptedOrder.class, orderConverter, orders);
+                    break;
+                default:
+                    // Unknown fields such as comments are ignored, as in JsonUtil
+                    parser.skipChildren();
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Address book file ended unexpectedly");
+            }
+        }
+    }
+
+    /**
+     * Reads the json array at the current position of {@code parser} into {@code records}, converting each element
+     * from {@code adaptedClass} into its model type as soon as it has been bound.
+     */
+    static <T, U> void readRecords(JsonParser parser, Class<T> adaptedClass,
+            ModelTypeConverter<T, U> converter, List<U> records) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a json array of records");
+        }
+
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Address book file ended unexpectedly");
+            }
+            records.add(converter.toModelType(parser.readValueAs(adaptedClass)));
+            token = parser.nextToken();
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into its model type.
+     */
+    @FunctionalInterface
+    interface ModelTypeConverter<T, U> {
+        U toModelType(T adapted) throws IllegalValueException;
+    }
+}
@@ -3,28 +3,40 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is either streamed one record at a time, or read with the records converted on a fork-join pool.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final Optional<ForkJoinPool> loadPool;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that converts the records it reads on
+     * {@code loadPool}, if present.
+     */
+    public JsonAddressBookStorage(Path filePath, Optional<ForkJoinPool> loadPool) {
+        requireNonNull(loadPool);
         this.filePath = filePath;
+        this.loadPool = loadPool;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +50,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed one record at a time by {@link JsonAddressBookReader}, or read with its records converted
+     * in parallel if there is a load pool.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,14 +59,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (loadPool.isPresent()) {
+                return Optional.of(JsonAddressBookReader.readInParallel(filePath, loadPool.get()));
+            }
+            return Optional.of(JsonAddressBookReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +85,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is streamed one record at a time by {@link JsonAddressBookWriter}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +93,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.write(addressBook, filePath);
     }
 
+    @Override
+    public void flush() {
+        // Saves are written immediately
+    }
 }
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookReader.CHEESES_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.CUSTOMERS_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.ORDERS_FIELD;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook json file one record at a time.
+ * Each customer, cheese and order is written straight from the model, so neither Jackson-friendly copies of the
+ * records nor the file contents are held in memory as a whole. The file is first written next to its destination
+ * and then renamed over it, so a failed save leaves the previous file intact.
+ * The field names are those of the Jackson-friendly adapted classes, which {@link JsonAddressBookReader} reads back.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing any existing file.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but left open.
+     *
+     * @throws IOException if there was an error during writing to the stream.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonGenerator generator = JsonUtil.createGenerator(out);
+        generator.writeStartObject();
+        writeRecords(generator, CUSTOMERS_FIELD, addressBook.getCustomerList(), JsonAddressBookWriter::writeCustomer);
+        writeRecords(generator, CHEESES_FIELD, addressBook.getCheeseList(), JsonAddressBookWriter::writeCheese);
+        writeRecords(generator, ORDERS_FIELD, addressBook.getOrderList(), JsonAddressBookWriter::writeOrder);
+        generator.writeEndObject();
+        // Flushed rather than closed, as the stream may still be needed, e.g. to sync the file
+        generator.flush();
+    }
+
+    /**
+     * Writes {@code records} to {@code filePath} as a json object holding just the array field {@code fieldName},
+     * replacing any existing file.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    static <T> void writeCollection(Path filePath, String fieldName, List<? extends T> records,
+            RecordWriter<T> recordWriter) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out);
+            generator.writeStartObject();
+            writeRecords(generator, fieldName, records, recordWriter);
+            generator.writeEndObject();
+            generator.flush();
+        });
+    }
+
+    /**
+     * Writes {@code records} as a json array field named {@code fieldName}, using {@code recordWriter} for each
+     * element.
+     */
+    static <T> void writeRecords(JsonGenerator generator, String fieldName, List<? extends T> records,
+            RecordWriter<T> recordWriter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T record : records) {
+            recordWriter.write(record, generator);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code source} in the layout of {@link JsonAdaptedCustomer}.
+     */
+    static void writeCustomer(Customer source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(JsonAdaptedCustomer.NAME_FIELD, source.getName().fullName);
+        generator.writeStringField(JsonAdaptedCustomer.PHONE_FIELD, source.getPhone().value);
+        generator.writeStringField(JsonAdaptedCustomer.EMAIL_FIELD, source.getEmail().value);
+        generator.writeStringField(JsonAdaptedCustomer.ADDRESS_FIELD, source.getAddress().value);
+        generator.writeNumberField(JsonAdaptedCustomer.CUSTOMER_ID_FIELD, source.getId().value);
+        generator.writeArrayFieldStart(JsonAdaptedCustomer.TAGGED_FIELD);
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code source} in the layout of {@link JsonAdaptedCheese}.
+     */
+    static void writeCheese(Cheese source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(JsonAdaptedCheese.CHEESE_ID_FIELD, source.getCheeseId().value);
+        generator.writeStringField(JsonAdaptedCheese.CHEESE_TYPE_FIELD, source.getCheeseType().value);
+        generator.writeStringField(JsonAdaptedCheese.MANUFACTURE_DATE_FIELD, source.getManufactureDate().toString());
+        generator.writeStringField(JsonAdaptedCheese.MATURITY_DATE_FIELD, source.getMaturityDate().toString());
+        generator.writeStringField(JsonAdaptedCheese.EXPIRY_DATE_FIELD, source.getExpiryDate().toString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code source} in the layout of {@link JsonAdaptedOrder}.
+     */
+    static void writeOrder(Order source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(JsonAdaptedOrder.ORDER_ID_FIELD, source.getOrderId().value);
+        generator.writeStringField(JsonAdaptedOrder.CHEESE_TYPE_FIELD, source.getCheeseType().value);
+        generator.writeNumberField(JsonAdaptedOrder.QUANTITY_FIELD, source.getQuantity().value);
+        generator.writeStringField(JsonAdaptedOrder.ORDER_DATE_FIELD, source.getOrderDate().toString());
+        if (source.getCompletedDate() != null) {
+            generator.writeStringField(JsonAdaptedOrder.COMPLETED_DATE_FIELD, source.getCompletedDate().toString());
+        } else {
+            generator.writeNullField(JsonAdaptedOrder.COMPLETED_DATE_FIELD);
+        }
+        generator.writeNumberField(JsonAdaptedOrder.CUSTOMER_ID_FIELD, source.getCustomerId().value);
+        generator.writeArrayFieldStart(JsonAdaptedOrder.CHEESE_IDS_FIELD);
+        for (CheeseId cheeseId : source.getCheeses()) {
+            generator.writeNumber(cheeseId.value);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a model object as a json object.
+     */
+    @FunctionalInterface
+    interface RecordWriter<T> {
+        void write(T record, JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAddressBookReader.ORDERS_FIELD;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderId;
+
+/**
+ * An {@code OrderArchive} kept as an append-only json file on the hard disk.
+ * Each line of the file is a batch of archived orders, appended and synced to the disk at once, together with the
+ * highest order id archived so far, which can therefore be found from the last line alone. A batch torn by a crash
+ * is skipped when reading, and an order that was archived more than once is only read once.
+ */
+public class JsonOrderArchive implements OrderArchive {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    static final String HIGHEST_ORDER_ID_FIELD = "highestOrderId";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonOrderArchive.class);
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Path filePath;
+
+    public JsonOrderArchive(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the location of the archive of the address book data at {@code filePath}.
+     */
+    public static Path getArchiveFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Order> readOrders() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        Map<OrderId, Order> orders = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                Optional<JsonAdaptedBatch> batch = parseBatch(line);
+                if (!batch.isPresent()) {
+                    continue;
+                }
+                for (JsonAdaptedOrder order : batch.get().orders) {
+                    Order modelOrder = order.toModelType();
+                    orders.putIfAbsent(modelOrder.getOrderId(), modelOrder);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from order archive " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in order archive " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    /**
+     * Returns the highest id of the archived orders, or 0 if there are none.
+     * Only the last line of the archive is read, unless it was torn by a crash.
+     */
+    public int readHighestOrderId() throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        Optional<JsonAdaptedBatch> lastBatch = parseBatch(readLastLine());
+        if (lastBatch.isPresent()) {
+            return lastBatch.get().highestOrderId;
+        }
+
+        int highestOrderId = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                Optional<JsonAdaptedBatch> batch = parseBatch(line);
+                if (batch.isPresent()) {
+                    highestOrderId = Math.max(highestOrderId, batch.get().highestOrderId);
+                }
+            }
+        }
+        return highestOrderId;
+    }
+
+    /**
+     * Appends {@code orders} to the archive as one batch, creating the archive if needed, and syncs it to the disk.
+     */
+    public void append(List<Order> orders) throws IOException {
+        requireNonNull(orders);
+
+        int highestOrderId = readHighestOrderId();
+        for (Order order : orders) {
+            highestOrderId = Math.max(highestOrderId, order.getOrderId().value);
+        }
+        boolean isAfterTornBatch = endsWithTornLine();
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            // One batch per line, with no separators within it
+            JsonGenerator generator = JsonUtil.createGenerator(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)))
+                    .setPrettyPrinter(new MinimalPrettyPrinter(""));
+            if (isAfterTornBatch) {
+                generator.writeRaw('\n');
+            }
+            generator.writeStartObject();
+            generator.writeNumberField(HIGHEST_ORDER_ID_FIELD, highestOrderId);
+            JsonAddressBookWriter.writeRecords(generator, ORDERS_FIELD, orders, JsonAddressBookWriter::writeOrder);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the batch on {@code line}, or an empty optional if the line is blank or was torn by a crash.
+     */
+    private Optional<JsonAdaptedBatch> parseBatch(String line) throws IOException {
+        if (line.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedBatch.class));
+        } catch (JsonProcessingException jpe) {
+            logger.warning("Ignoring incomplete batch in order archive " + filePath + ": " + jpe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the last complete line of the archive, or an empty string if there is none.
+     * The line is found by scanning backwards from the end of the file.
+     */
+    private String readLastLine() throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // Lines are only complete once their new line has been written
+            long lineEnd = lastNewLineBefore(channel, channel.size());
+            if (lineEnd < 0) {
+                return "";
+            }
+            long lineStart = lastNewLineBefore(channel, lineEnd) + 1;
+
+            ByteBuffer line = ByteBuffer.allocate(Math.toIntExact(lineEnd - lineStart));
+            while (line.hasRemaining() && channel.read(line, lineStart + line.position()) >= 0) {
+                // Keep reading until the whole line is in the buffer
+            }
+            return new String(line.array(), 0, line.position(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns true if the archive ends with a batch that was torn by a crash, and so lacks its new line.
+     */
+    private boolean endsWithTornLine() throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            return size > 0 && lastNewLineBefore(channel, size) != size - 1;
+        }
+    }
+
+    /**
+     * Returns the position of the last new line before {@code end} in {@code channel}, or -1 if there is none.
+     */
+    private static long lastNewLineBefore(FileChannel channel, long end) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        long chunkEnd = end;
+        while (chunkEnd > 0) {
+            long chunkStart = Math.max(0, chunkEnd - CHUNK_SIZE);
+            chunk.clear();
+            chunk.limit((int) (chunkEnd - chunkStart));
+            while (chunk.hasRemaining() && channel.read(chunk, chunkStart + chunk.position()) >= 0) {
+                // Keep reading until the whole chunk is in the buffer
+            }
+            for (int i = chunk.position() - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return chunkStart + i;
+                }
+            }
+            chunkEnd = chunkStart;
+        }
+        return -1;
+    }
+
+    /**
+     * Jackson-friendly version of a batch of archived orders.
+     */
+    static class JsonAdaptedBatch {
+        private final int highestOrderId;
+        private final List<JsonAdaptedOrder> orders = new ArrayList<>();
+
+        /**
+         * Constructs a {@code JsonAdaptedBatch} with the given orders.
+         */
+        @JsonCreator
+        JsonAdaptedBatch(@JsonProperty(HIGHEST_ORDER_ID_FIELD) Integer highestOrderId,
+                @JsonProperty(ORDERS_FIELD) List<JsonAdaptedOrder> orders) {
+            this.highestOrderId = highestOrderId == null ? 0 : highestOrderId;
+            if (orders != null) {
+                this.orders.addAll(orders);
+            }
+        }
+    }
+}
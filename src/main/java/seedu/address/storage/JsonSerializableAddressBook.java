@@ -12,8 +12,11 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.exceptions.DuplicateCustomerException;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.exceptions.DuplicateOrderException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,6 +27,7 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_CUSTOMER = "Customers list contains duplicate customer(s).";
     public static final String MESSAGE_DUPLICATE_CHEESE = "Cheese list contains duplicate cheese(s).";
     public static final String MESSAGE_DUPLICATE_ORDER = "Order list contains duplicate order(s).";
+    public static final String MESSAGE_MISSING_REFERENCES = "Orders refer to customers or cheeses that do not exist:";
 
     private final List<JsonAdaptedCustomer> customers = new ArrayList<>();
     private final List<JsonAdaptedCheese> cheeses = new ArrayList<>();
@@ -58,29 +62,47 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Customer> modelCustomers = new ArrayList<>(customers.size());
         for (JsonAdaptedCustomer jsonAdaptedCustomer : customers) {
-            Customer customer = jsonAdaptedCustomer.toModelType();
-            if (addressBook.hasCustomer(customer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
-            }
-            addressBook.addCustomer(customer);
+            modelCustomers.add(jsonAdaptedCustomer.toModelType());
         }
 
+        List<Cheese> modelCheeses = new ArrayList<>(cheeses.size());
         for (JsonAdaptedCheese jsonAdaptedCheese : cheeses) {
-            Cheese cheese = jsonAdaptedCheese.toModelType();
-            if (addressBook.hasCheese(cheese)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CHEESE);
-            }
-            addressBook.addCheese(cheese);
+            modelCheeses.add(jsonAdaptedCheese.toModelType());
         }
 
+        List<Order> modelOrders = new ArrayList<>(orders.size());
         for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (addressBook.hasOrder(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
-            }
-            addressBook.addOrder(order);
+            modelOrders.add(jsonAdaptedOrder.toModelType());
+        }
+
+        return toAddressBook(modelCustomers, modelCheeses, modelOrders);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding the given {@code customers}, {@code cheeses} and {@code orders}.
+     *
+     * @throws IllegalValueException if any of the lists contains duplicates, or if any order refers to a customer or
+     *     cheese not in the lists, in which case every such reference is reported.
+     */
+    static AddressBook toAddressBook(List<Customer> customers, List<Cheese> cheeses, List<Order> orders)
+            throws IllegalValueException {
+        List<String> missingReferences = ReferenceChecker.findMissingReferences(customers, cheeses, orders);
+        if (!missingReferences.isEmpty()) {
+            throw new IllegalValueException(
+                    MESSAGE_MISSING_REFERENCES + "\n" + String.join("\n", missingReferences));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.bulkLoad(customers, cheeses, orders);
+        } catch (DuplicateCustomerException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
+        } catch (DuplicateCheeseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CHEESE);
+        } catch (DuplicateOrderException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
         }
 
         return addressBook;
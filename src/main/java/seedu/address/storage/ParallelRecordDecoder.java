@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.storage.JsonAddressBookReader.ModelTypeConverter;
+
+/**
+ * Converts the Jackson-friendly records of an address book into their model types on a fork-join pool.
+ * The customers, cheeses and orders are converted at the same time, each split into chunks of at most
+ * {@link #CHUNK_SIZE} records, and the results are put back together in the order of the records. The outcome is
+ * the same as converting the records one after another: the same address book and the same error for the first
+ * invalid record. Converting a record hands out no ids, as the ids of new entities are only handed out by the
+ * address book the records are loaded into.
+ */
+class ParallelRecordDecoder {
+
+    public static final int CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+
+    ParallelRecordDecoder(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Converts the given records into an {@code AddressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, reporting the first invalid
+     *     customer, cheese or order, in that order, or if the records do not form a valid address book.
+     */
+    AddressBook decode(List<JsonAdaptedCustomer> customers, List<JsonAdaptedCheese> cheeses,
+            List<JsonAdaptedOrder> orders) throws IllegalValueException {
+        requireAllNonNull(customers, cheeses, orders);
+
+        DecodeTask<JsonAdaptedCustomer, Customer> customerTask =
+                new DecodeTask<>(customers, JsonAdaptedCustomer::toModelType, new Customer[customers.size()]);
+        DecodeTask<JsonAdaptedCheese, Cheese> cheeseTask =
+                new DecodeTask<>(cheeses, JsonAdaptedCheese::toModelType, new Cheese[cheeses.size()]);
+        DecodeTask<JsonAdaptedOrder, Order> orderTask =
+                new DecodeTask<>(orders, JsonAdaptedOrder::toModelType, new Order[orders.size()]);
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(customerTask, cheeseTask, orderTask);
+                return null;
+            }
+        });
+
+        List<Customer> modelCustomers = customerTask.getResults();
+        List<Cheese> modelCheeses = cheeseTask.getResults();
+        List<Order> modelOrders = orderTask.getResults();
+        return JsonSerializableAddressBook.toAddressBook(modelCustomers, modelCheeses, modelOrders);
+    }
+
+    /**
+     * Converts the records from {@code start} to {@code end} into {@code results} at the same positions, splitting
+     * the range in half until it fits in a chunk.
+     * The result of the task is the error of the first record in the range that failed to convert, or null if all of
+     * them were converted.
+     */
+    private static class DecodeTask<T, U> extends RecursiveTask<IllegalValueException> {
+        private final List<T> records;
+        private final ModelTypeConverter<T, U> converter;
+        private final U[] results;
+        private final int start;
+        private final int end;
+
+        DecodeTask(List<T> records, ModelTypeConverter<T, U> converter, U[] results) {
+            this(records, converter, results, 0, records.size());
+        }
+
+        private DecodeTask(List<T> records, ModelTypeConverter<T, U> converter, U[] results, int start, int end) {
+            this.records = records;
+            this.converter = converter;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected IllegalValueException compute() {
+            if (end - start <= CHUNK_SIZE) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        results[i] = converter.toModelType(records.get(i));
+                    } catch (IllegalValueException e) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+
+            int middle = (start + end) >>> 1;
+            DecodeTask<T, U> second = new DecodeTask<>(records, converter, results, middle, end);
+            second.fork();
+            IllegalValueException firstError = new DecodeTask<>(records, converter, results, start, middle).compute();
+            IllegalValueException secondError = second.join();
+            return firstError != null ? firstError : secondError;
+        }
+
+        /**
+         * Returns the converted records in order.
+         *
+         * @throws IllegalValueException if any record failed to convert, for the first such record.
+         */
+        List<U> getResults() throws IllegalValueException {
+            IllegalValueException error = join();
+            if (error != null) {
+                throw error;
+            }
+            return new ArrayList<>(Arrays.asList(results));
+        }
+    }
+}
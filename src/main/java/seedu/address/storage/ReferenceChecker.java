@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.Order;
+
+/**
+ * Checks that the orders of an address book being loaded only refer to customers and cheeses in it.
+ * The ids of the customers and cheeses are hashed once, so every reference is checked in O(1) time and the check
+ * takes time linear in the size of the address book.
+ */
+class ReferenceChecker {
+
+    public static final String MESSAGE_MISSING_CUSTOMER = "Order %1$s refers to customer %2$s, which does not exist.";
+    public static final String MESSAGE_MISSING_CHEESE = "Order %1$s refers to cheese %2$s, which does not exist.";
+
+    private ReferenceChecker() {}
+
+    /**
+     * Returns a message for every reference in {@code orders} to a customer not in {@code customers} or a cheese not
+     * in {@code cheeses}, in the order the references appear. The list is empty if all references are valid.
+     */
+    static List<String> findMissingReferences(List<Customer> customers, List<Cheese> cheeses, List<Order> orders) {
+        Set<CustomerId> customerIds = new HashSet<>(customers.size() * 2);
+        for (Customer customer : customers) {
+            customerIds.add(customer.getId());
+        }
+        Set<CheeseId> cheeseIds = new HashSet<>(cheeses.size() * 2);
+        for (Cheese cheese : cheeses) {
+            cheeseIds.add(cheese.getCheeseId());
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (Order order : orders) {
+            if (!customerIds.contains(order.getCustomerId())) {
+                violations.add(String.format(MESSAGE_MISSING_CUSTOMER, order.getOrderId(), order.getCustomerId()));
+            }
+            order.getCheeses().stream()
+                    .filter(cheeseId -> !cheeseIds.contains(cheeseId))
+                    .sorted()
+                    .forEach(cheeseId -> violations.add(
+                            String.format(MESSAGE_MISSING_CHEESE, order.getOrderId(), cheeseId)));
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAddressBookReader.CHEESES_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.CUSTOMERS_FIELD;
+import static seedu.address.storage.JsonAddressBookReader.ORDERS_FIELD;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.util.ChangeFeed;
+
+/**
+ * A class to access AddressBook data stored as one json file per collection in a directory on the hard disk.
+ * The customers, cheeses and orders are kept in {@link #CUSTOMERS_FILE}, {@link #CHEESES_FILE} and
+ * {@link #ORDERS_FILE}, which are read in parallel. Saving only rewrites the files of the collections changed since
+ * they were last written, so saving new orders leaves the other files untouched. Whether a collection changed is
+ * told in constant time from the last change to its list, which snapshots of an address book share with it, so the
+ * first save after reading the directory writes all files.
+ * Each file is replaced atomically, but a save that fails midway may have replaced only some of them.
+ */
+public class SplitJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String CUSTOMERS_FILE = "customers.json";
+    public static final String CHEESES_FILE = "cheeses.json";
+    public static final String ORDERS_FILE = "orders.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SplitJsonAddressBookStorage.class);
+
+    private final Path directory;
+
+    // The last change to each list as of when its file in directory was last written, or null if not known
+    private ChangeFeed.Change<Customer> savedCustomerChange;
+    private ChangeFeed.Change<Cheese> savedCheeseChange;
+    private ChangeFeed.Change<Order> savedOrderChange;
+
+    public SplitJsonAddressBookStorage(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory holding the files of this storage.
+     */
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A missing file is read as an empty collection.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataConversionException if any of the files is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataConversionException,
+            IOException {
+        requireNonNull(directory);
+
+        Path customersFile = directory.resolve(CUSTOMERS_FILE);
+        Path cheesesFile = directory.resolve(CHEESES_FILE);
+        Path ordersFile = directory.resolve(ORDERS_FILE);
+        if (!Files.exists(customersFile) && !Files.exists(cheesesFile) && !Files.exists(ordersFile)) {
+            logger.info("No data files found in " + directory);
+            return Optional.empty();
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        List<Cheese> cheeses = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Void>> reads = Arrays.asList(
+                    executor.submit(readTask(customersFile, customers, new ArrayList<>(), new ArrayList<>())),
+                    executor.submit(readTask(cheesesFile, new ArrayList<>(), cheeses, new ArrayList<>())),
+                    executor.submit(readTask(ordersFile, new ArrayList<>(), new ArrayList<>(), orders)));
+            for (Future<Void> read : reads) {
+                awaitRead(read);
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(customers, cheeses, orders));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading from " + directory, ie);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + directory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * All files are written when saving to any directory other than this storage's own.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        if (!directory.equals(this.directory)) {
+            JsonAddressBookWriter.writeCollection(directory.resolve(CUSTOMERS_FILE), CUSTOMERS_FIELD,
+                    addressBook.getCustomerList(), JsonAddressBookWriter::writeCustomer);
+            JsonAddressBookWriter.writeCollection(directory.resolve(CHEESES_FILE), CHEESES_FIELD,
+                    addressBook.getCheeseList(), JsonAddressBookWriter::writeCheese);
+            JsonAddressBookWriter.writeCollection(directory.resolve(ORDERS_FILE), ORDERS_FIELD,
+                    addressBook.getOrderList(), JsonAddressBookWriter::writeOrder);
+            return;
+        }
+
+        if (addressBook.getLatestCustomerChange() != savedCustomerChange) {
+            JsonAddressBookWriter.writeCollection(directory.resolve(CUSTOMERS_FILE), CUSTOMERS_FIELD,
+                    addressBook.getCustomerList(), JsonAddressBookWriter::writeCustomer);
+            savedCustomerChange = addressBook.getLatestCustomerChange();
+        }
+        if (addressBook.getLatestCheeseChange() != savedCheeseChange) {
+            JsonAddressBookWriter.writeCollection(directory.resolve(CHEESES_FILE), CHEESES_FIELD,
+                    addressBook.getCheeseList(), JsonAddressBookWriter::writeCheese);
+            savedCheeseChange = addressBook.getLatestCheeseChange();
+        }
+        if (addressBook.getLatestOrderChange() != savedOrderChange) {
+            JsonAddressBookWriter.writeCollection(directory.resolve(ORDERS_FILE), ORDERS_FIELD,
+                    addressBook.getOrderList(), JsonAddressBookWriter::writeOrder);
+            savedOrderChange = addressBook.getLatestOrderChange();
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Saves are written immediately
+    }
+
+    /**
+     * Waits for {@code read} to finish, rethrowing the exception it failed with, if any.
+     */
+    private static void awaitRead(Future<Void> read) throws IOException, IllegalValueException,
+            InterruptedException {
+        try {
+            read.get();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            if (ee.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private static Callable<Void> readTask(Path file, List<Customer> customers, List<Cheese> cheeses,
+            List<Order> orders) {
+        return () -> {
+            if (Files.exists(file)) {
+                JsonAddressBookReader.readInto(file, customers, cheeses, orders);
+            }
+            return null;
+        };
+    }
+}
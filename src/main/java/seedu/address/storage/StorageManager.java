@@ -76,4 +76,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows an error that happened outside of a command, such as a failed background save. */
+    void showError(String title, String message);
+
 }
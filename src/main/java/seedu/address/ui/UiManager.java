@@ -51,6 +51,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showError(String title, String message) {
+        // May be called from any thread, e.g. the autosave thread
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                showAlertDialogAndWait(AlertType.ERROR, title, message, null);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
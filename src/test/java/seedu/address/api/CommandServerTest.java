@@ -0,0 +1,170 @@
+package seedu.address.api;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalCustomers.DANIEL;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ConcurrentModel;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.CustomerUtil;
+
+public class CommandServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        // The displayed list is never updated, as if the UI thread were busy
+        model = new ConcurrentModel(new ModelManager(getTypicalAddressBook(), new UserPrefs()), update -> { });
+        server = new CommandServer(new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage)),
+                model, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void query_customer_success() throws Exception {
+        HttpResponse<String> response = post(CommandServer.QUERIES_PATH,
+                "{\"type\": \"customer\", \"id\": " + ALICE.getId().value + "}");
+
+        assertEquals(HTTP_OK, response.statusCode());
+        assertTrue(response.body().contains(ALICE.getName().fullName));
+        assertTrue(response.headers().firstValue(CommandServer.LATENCY_HEADER).isPresent());
+    }
+
+    @Test
+    public void query_unknownType_badRequest() throws Exception {
+        HttpResponse<String> response = post(CommandServer.QUERIES_PATH, "{\"type\": \"weather\"}");
+
+        assertEquals(HTTP_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().contains("\"error\""));
+    }
+
+    @Test
+    public void query_missingCustomer_notFound() throws Exception {
+        HttpResponse<String> response = post(CommandServer.QUERIES_PATH, "{\"type\": \"customer\", \"id\": 9999}");
+
+        assertEquals(HTTP_NOT_FOUND, response.statusCode());
+    }
+
+    @Test
+    public void command_list_success() throws Exception {
+        HttpResponse<String> response = post(CommandServer.COMMANDS_PATH, ListCommand.COMMAND_WORD);
+
+        assertEquals(HTTP_OK, response.statusCode());
+        assertTrue(response.body().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void command_unknownCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(CommandServer.COMMANDS_PATH, "uicfhmowqewca");
+
+        assertEquals(HTTP_BAD_REQUEST, response.statusCode());
+    }
+
+    @Test
+    public void command_getRequest_methodNotAllowed() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(CommandServer.COMMANDS_PATH)).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(HTTP_BAD_METHOD, response.statusCode());
+    }
+
+    @Test
+    public void command_deleteAfterFind_deletesFoundCustomer() throws Exception {
+        HttpResponse<String> findResponse = post(CommandServer.COMMANDS_PATH, FindCommand.COMMAND_WORD + " Meier");
+        assertEquals(HTTP_OK, findResponse.statusCode());
+        assertTrue(findResponse.body().contains(String.format(Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW, 2)));
+
+        HttpResponse<String> deleteResponse = post(CommandServer.COMMANDS_PATH, DeleteCommand.COMMAND_WORD + " 2");
+        assertEquals(HTTP_OK, deleteResponse.statusCode());
+        assertTrue(deleteResponse.body().contains(DANIEL.getName().fullName));
+        assertFalse(model.hasCustomer(DANIEL));
+        assertTrue(model.hasCustomer(BENSON));
+    }
+
+    @Test
+    public void command_concurrentAdds_allApplied() throws Exception {
+        final int customerCount = 20;
+        int initialCount = model.getAddressBook().getCustomerList().size();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            String addCommand = CustomerUtil.getAddCommand(new CustomerBuilder().withName("Customer " + i)
+                    .withPhone(String.format("9%07d", i)).withEmail("customer" + i + "@example.com").build());
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uriOf(CommandServer.COMMANDS_PATH))
+                    .POST(HttpRequest.BodyPublishers.ofString(addCommand)).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(HTTP_OK, response.get().statusCode());
+        }
+
+        assertEquals(initialCount + customerCount, model.getAddressBook().getCustomerList().size());
+    }
+
+    @Test
+    public void loadTestClient_queries_noErrors() throws Exception {
+        LoadTestClient.Report report = new LoadTestClient(server.getPort(), CommandServer.QUERIES_PATH,
+                LoadTestClient.DEFAULT_QUERY).run(50, 4);
+
+        assertEquals(50, report.getRequests());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getLatencyMicros(50) <= report.getLatencyMicros(99));
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(path)).POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -11,7 +11,17 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Storage format : JSON\n"
+                + "Journal compaction threshold : 1000\n"
+                + "Autosave enabled : false\n"
+                + "Autosave quiet period : 500ms\n"
+                + "Autosave max delay : 5000ms\n"
+                + "Order archive enabled : false\n"
+                + "Order archive age : 90 days\n"
+                + "Parallel load enabled : false\n"
+                + "Command API enabled : false\n"
+                + "Command API port : 8765";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCustomers.AMY;
 
@@ -17,17 +21,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.CustomerIdStub;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ConcurrentModel;
+import seedu.address.model.IdAllocator;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -82,18 +92,67 @@ public class LogicManagerTest {
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
-        Customer expectedCustomer = new CustomerBuilder(AMY).withId(CustomerIdStub.getNextId()).withTags().build();
+        Customer expectedCustomer = new CustomerBuilder(AMY).withId(new CustomerId(IdAllocator.FIRST_ID)).withTags()
+                .build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addCustomer(expectedCustomer);
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        useIoExceptionThrowingStorage();
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedSave_retriesSave() {
+        useIoExceptionThrowingStorage();
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
+
+        // The added customer has still not been saved
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_journaledStorageOfConcurrentModel_laterCommandsOnlyAppendToJournal() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("journaledAddressBook.json");
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(addressBookFilePath, 10);
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("journaledUserPrefs.json"));
+        model = new ConcurrentModel(new ModelManager(), Runnable::run);
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        String snapshot = FileUtil.readFromFile(addressBookFilePath);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        // only the journal has been written to since the first command
+        assertEquals(snapshot, FileUtil.readFromFile(addressBookFilePath));
+        assertEquals(new AddressBook(model.getAddressBook()), addressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCustomerList().remove(0));
     }
 
+    /**
+     * Sets up {@code logic} to save to a {@code JsonAddressBookIoExceptionThrowingStub}.
+     */
+    private void useIoExceptionThrowingStorage() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -7,8 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,13 +22,20 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.IdAllocator;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
 import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.CustomerUtil;
 
 public class AddCommandTest {
 
@@ -43,6 +55,20 @@ public class AddCommandTest {
         assertEquals(Arrays.asList(validCustomer), modelStub.customersAdded);
     }
 
+    @Test
+    public void execute_customerDetailsAcceptedByModel_addedUnderAllocatedId() throws Exception {
+        ModelStubAcceptingCustomerAdded modelStub = new ModelStubAcceptingCustomerAdded();
+        modelStub.idAllocator.markTaken(new CustomerId(41));
+        Customer validCustomer = new CustomerBuilder().build();
+        Customer expectedCustomer = new CustomerBuilder(validCustomer).withId(new CustomerId(42)).build();
+
+        CommandResult commandResult = CustomerUtil.getParsedAddCommand(validCustomer).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, expectedCustomer), commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(expectedCustomer), modelStub.customersAdded);
+        assertEquals(new CustomerId(43), modelStub.idAllocator.peekCustomerId());
+    }
+
     @Test
     public void execute_duplicateCustomer_throwsCommandException() {
         Customer validCustomer = new CustomerBuilder().build();
@@ -53,6 +79,16 @@ public class AddCommandTest {
                 .execute(modelStub));
     }
 
+    @Test
+    public void execute_customerIdTaken_throwsCommandException() {
+        Customer validCustomer = new CustomerBuilder().build();
+        AddCommand addCommand = new AddCommand(new CustomerBuilder(validCustomer).withName("Other Name").build());
+        ModelStub modelStub = new ModelStubWithCustomer(validCustomer);
+
+        assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_CUSTOMER_ID, () -> addCommand
+                .execute(modelStub));
+    }
+
     @Test
     public void equals() {
         Customer alice = new CustomerBuilder().withName("Alice").build();
@@ -75,6 +111,9 @@ public class AddCommandTest {
 
         // different customer -> returns false
         assertFalse(addAliceCommand.equals(addBobCommand));
+
+        // same details, with and without an id -> returns false
+        assertFalse(addAliceCommand.equals(CustomerUtil.getParsedAddCommand(alice)));
     }
 
     /**
@@ -126,6 +165,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public IdAllocator getIdAllocator() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCustomer(Customer customer) {
             throw new AssertionError("This method should not be called.");
@@ -141,6 +190,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Customer> findCustomerById(CustomerId customerId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasOrder(Order order) {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +220,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Order> allocateCheeses(LocalDateTime asOf) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Order> findOrders(OrderQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getArchivedOrderList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCheese(Cheese cheese) {
             throw new AssertionError("This method should not be called.");
@@ -196,6 +310,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Customer> getDisplayedCustomerList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getDisplayedOrderList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Cheese> getDisplayedCheeseList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredCustomerList(Predicate<Customer> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -228,6 +357,12 @@ public class AddCommandTest {
             requireNonNull(customer);
             return this.customer.isSameCustomer(customer);
         }
+
+        @Override
+        public Optional<Customer> findCustomerById(CustomerId customerId) {
+            requireNonNull(customerId);
+            return customer.getId().equals(customerId) ? Optional.of(customer) : Optional.empty();
+        }
     }
 
     /**
@@ -235,6 +370,7 @@ public class AddCommandTest {
      */
     private class ModelStubAcceptingCustomerAdded extends ModelStub {
         final ArrayList<Customer> customersAdded = new ArrayList<>();
+        final IdAllocator idAllocator = new IdAllocator();
 
         @Override
         public boolean hasCustomer(Customer customer) {
@@ -242,12 +378,23 @@ public class AddCommandTest {
             return customersAdded.stream().anyMatch(customer::isSameCustomer);
         }
 
+        @Override
+        public Optional<Customer> findCustomerById(CustomerId customerId) {
+            requireNonNull(customerId);
+            return customersAdded.stream().filter(customer -> customer.getId().equals(customerId)).findFirst();
+        }
+
         @Override
         public void addCustomer(Customer customer) {
             requireNonNull(customer);
             customersAdded.add(customer);
         }
 
+        @Override
+        public IdAllocator getIdAllocator() {
+            return idAllocator;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AllocateCommand}.
+ */
+public class AllocateCommandTest {
+    // Both typical cheeses are still available in 2021, and both have expired by 2024
+    private static final Optional<LocalDateTime> BEFORE_EXPIRY = Optional.of(LocalDateTime.of(2021, 1, 1, 0, 0));
+    private static final Optional<LocalDateTime> AFTER_EXPIRY = Optional.of(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Order pendingOrder = new OrderBuilder().withCheeseType("Feta").withQuantity(2)
+            .withoutCompletedDate().withOrderId(3).build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AllocateCommand nowCommand = new AllocateCommand(Optional.empty());
+
+        assertTrue(nowCommand.equals(nowCommand));
+        assertTrue(nowCommand.equals(new AllocateCommand(Optional.empty())));
+        assertFalse(nowCommand.equals(null));
+        assertFalse(nowCommand.equals(new ClearCommand()));
+        assertFalse(nowCommand.equals(new AllocateCommand(BEFORE_EXPIRY)));
+    }
+
+    @Test
+    public void execute_availableCheeses_allocatesAndListsOrders() {
+        model.addOrder(pendingOrder);
+        expectedModel.addOrder(pendingOrder);
+        Order allocatedOrder = new OrderBuilder(pendingOrder).withCheeses(FETA.getCheeseId()).build();
+        expectedModel.setOrder(pendingOrder, allocatedOrder);
+        expectedModel.updateFilteredOrderList(allocatedOrder::equals);
+
+        String expectedMessage = String.format(AllocateCommand.MESSAGE_SUCCESS, 1, 1);
+        assertCommandSuccess(new AllocateCommand(BEFORE_EXPIRY), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allocatedOrderEditedLater_orderStillListed() {
+        model.addOrder(pendingOrder);
+        new AllocateCommand(BEFORE_EXPIRY).execute(model);
+
+        Order allocatedOrder = model.getFilteredOrderList().get(0);
+        Order editedOrder = new OrderBuilder(allocatedOrder).withQuantity(1).build();
+        model.setOrder(allocatedOrder, editedOrder);
+        assertEquals(Collections.singletonList(editedOrder), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_allocateThenSaveAndReload_allocatedOrderStillPending() throws Exception {
+        model.addOrder(pendingOrder);
+        new AllocateCommand(BEFORE_EXPIRY).execute(model);
+
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(model.getAddressBook());
+        Model reloadedModel = new ModelManager(new JsonAddressBookStorage(filePath).readAddressBook().get(),
+                new UserPrefs());
+
+        Order reloadedOrder = reloadedModel.getAddressBook().getOrderList().stream()
+                .filter(order -> order.getOrderId().equals(pendingOrder.getOrderId())).findFirst().get();
+        assertNull(reloadedOrder.getCompletedDate());
+        assertEquals(Collections.singleton(FETA.getCheeseId()), reloadedOrder.getCheeses());
+        assertEquals(model.getAddressBook(), reloadedModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_noAvailableCheeses_nothingAllocated() {
+        model.addOrder(pendingOrder);
+        expectedModel.addOrder(pendingOrder);
+        long modificationCount = model.getAddressBookModificationCount();
+
+        assertCommandSuccess(new AllocateCommand(AFTER_EXPIRY), model, AllocateCommand.MESSAGE_NOTHING_ALLOCATED,
+                expectedModel);
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+}
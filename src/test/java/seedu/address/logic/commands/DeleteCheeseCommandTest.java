@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code DeleteCheeseCommand}.
+ */
+public class DeleteCheeseCommandTest {
+
+    private static final Index INDEX_FIRST_CHEESE = Index.fromOneBased(1);
+    private static final Index INDEX_SECOND_CHEESE = Index.fromOneBased(2);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_unassignedCheese_success() {
+        Cheese cheeseToDelete = model.getFilteredCheeseList().get(INDEX_FIRST_CHEESE.getZeroBased());
+        DeleteCheeseCommand deleteCheeseCommand = new DeleteCheeseCommand(INDEX_FIRST_CHEESE);
+
+        String expectedMessage = String.format(DeleteCheeseCommand.MESSAGE_DELETE_CHEESE_SUCCESS, cheeseToDelete);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteCheese(cheeseToDelete);
+
+        assertCommandSuccess(deleteCheeseCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_assignedCheese_throwsCommandException() {
+        Cheese cheeseToDelete = model.getFilteredCheeseList().get(INDEX_FIRST_CHEESE.getZeroBased());
+        model.setOrder(ORDER_FETA, new OrderBuilder(ORDER_FETA).withCheeses(cheeseToDelete.getCheeseId()).build());
+        model.setOrder(ORDER_CAMEMBERT,
+                new OrderBuilder(ORDER_CAMEMBERT).withCheeses(cheeseToDelete.getCheeseId()).build());
+
+        String expectedMessage = String.format(DeleteCheeseCommand.MESSAGE_CHEESE_ASSIGNED,
+                ORDER_CAMEMBERT.getOrderId() + ", " + ORDER_FETA.getOrderId());
+        assertCommandFailure(new DeleteCheeseCommand(INDEX_FIRST_CHEESE), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCheeseList().size() + 1);
+        DeleteCheeseCommand deleteCheeseCommand = new DeleteCheeseCommand(outOfBoundIndex);
+
+        assertCommandFailure(deleteCheeseCommand, model, Messages.MESSAGE_INVALID_CHEESE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DeleteCheeseCommand deleteFirstCommand = new DeleteCheeseCommand(INDEX_FIRST_CHEESE);
+
+        assertTrue(deleteFirstCommand.equals(deleteFirstCommand));
+        assertTrue(deleteFirstCommand.equals(new DeleteCheeseCommand(INDEX_FIRST_CHEESE)));
+        assertFalse(deleteFirstCommand.equals(new DeleteCommand(INDEX_FIRST_CHEESE)));
+        assertFalse(deleteFirstCommand.equals(null));
+        assertFalse(deleteFirstCommand.equals(new DeleteCheeseCommand(INDEX_SECOND_CHEESE)));
+    }
+}
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
 import static seedu.address.testutil.TypicalCustomers.CARL;
+import static seedu.address.testutil.TypicalCustomers.DANIEL;
 import static seedu.address.testutil.TypicalCustomers.ELLE;
 import static seedu.address.testutil.TypicalCustomers.FIONA;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
@@ -18,7 +21,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.customer.Customer;
 import seedu.address.model.customer.NameContainsKeywordsPredicate;
+import seedu.address.testutil.CustomerBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +79,16 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredCustomerList());
     }
 
+    @Test
+    public void execute_customerEditedLater_filterReapplied() {
+        new FindCommand(preparePredicate("Meier")).execute(model);
+
+        Customer editedAlice = new CustomerBuilder(ALICE).withName("Alice Meier").build();
+        model.setCustomer(ALICE, editedAlice);
+        model.setCustomer(BENSON, new CustomerBuilder(BENSON).withName("Benson Kurz").build());
+        assertEquals(Arrays.asList(editedAlice, DANIEL), model.getFilteredCustomerList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
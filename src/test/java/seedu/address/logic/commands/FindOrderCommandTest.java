@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindOrderCommand}.
+ */
+public class FindOrderCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        OrderQuery firstQuery = new OrderQuery();
+        firstQuery.setCustomerId(1);
+        OrderQuery secondQuery = new OrderQuery();
+        secondQuery.setCompleted(true);
+
+        FindOrderCommand findFirstCommand = new FindOrderCommand(firstQuery);
+        FindOrderCommand findSecondCommand = new FindOrderCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        OrderQuery firstQueryCopy = new OrderQuery();
+        firstQueryCopy.setCustomerId(1);
+        assertTrue(findFirstCommand.equals(new FindOrderCommand(firstQueryCopy)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingOrders_noOrderFound() {
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 0);
+        OrderQuery query = new OrderQuery();
+        query.setCompleted(false);
+        expectedModel.updateFilteredOrderList(query);
+        assertCommandSuccess(new FindOrderCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_severalFilters_matchingOrdersFound() {
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1);
+        OrderQuery query = new OrderQuery();
+        query.setCheeseType(ORDER_FETA.getCheeseType());
+        query.setOrderDateFrom(ORDER_CAMEMBERT.getOrderDate().value);
+        query.setCompleted(true);
+        expectedModel.updateFilteredOrderList(query);
+        assertCommandSuccess(new FindOrderCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ORDER_FETA), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_orderDateFilter_describesMatchingArchivedOrders() {
+        Order archivedOrder = new OrderBuilder(ORDER_FETA).withOrderId(100)
+                .withOrderDate("2021-04-01 10:00").withCompletedDate("2021-04-02 10:00").build();
+        Order olderArchivedOrder = new OrderBuilder(ORDER_FETA).withOrderId(101)
+                .withOrderDate("2020-05-01 10:00").withCompletedDate("2020-05-02 10:00").build();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), () ->
+                Arrays.asList(archivedOrder, olderArchivedOrder));
+        OrderQuery query = new OrderQuery();
+        query.setOrderDateFrom(ORDER_FETA.getOrderDate().value);
+        expectedModel.updateFilteredOrderList(query);
+
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, 1) + "\n" + archivedOrder;
+        assertCommandSuccess(new FindOrderCommand(query), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_orderEditedLater_filterReapplied() throws Exception {
+        OrderQuery query = new OrderQuery();
+        query.setCompleted(false);
+        new FindOrderCommand(query).execute(model);
+
+        Order pendingOrder = new OrderBuilder(ORDER_FETA).withoutCompletedDate().build();
+        model.setOrder(ORDER_FETA, pendingOrder);
+        assertEquals(Arrays.asList(pendingOrder), model.getFilteredOrderList());
+    }
+}
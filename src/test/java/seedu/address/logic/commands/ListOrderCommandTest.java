@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVE_UNREADABLE;
+import static seedu.address.commons.core.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ORDER_DATE_1;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ORDER_DATE_2;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListOrderCommand}.
+ */
+public class ListOrderCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        Optional<LocalDateTime> date = Optional.of(LocalDateTime.of(2021, 3, 1, 0, 0));
+        ListOrderCommand placedCommand = new ListOrderCommand(false, date, Optional.empty());
+
+        // same values -> returns true
+        assertTrue(placedCommand.equals(new ListOrderCommand(false, date, Optional.empty())));
+
+        // null -> returns false
+        assertFalse(placedCommand.equals(null));
+
+        // different date field -> returns false
+        assertFalse(placedCommand.equals(new ListOrderCommand(true, date, Optional.empty())));
+
+        // different range -> returns false
+        assertFalse(placedCommand.equals(new ListOrderCommand(false, Optional.empty(), date)));
+    }
+
+    @Test
+    public void execute_noRange_showsAllOrders() {
+        model.updateFilteredOrderList(unused -> false);
+        assertCommandSuccess(new ListOrderCommand(), model, ListOrderCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_placedRange_showsOrdersPlacedInRange() {
+        LocalDateTime fetaDate = ORDER_FETA.getOrderDate().value;
+        expectedModel.updateFilteredOrderList(order -> order == ORDER_FETA);
+        assertCommandSuccess(new ListOrderCommand(false, Optional.of(fetaDate), Optional.of(fetaDate)), model,
+                String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(ORDER_FETA), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_completedRange_showsOrdersCompletedInRange() {
+        LocalDateTime camembertCompletedDate = ORDER_CAMEMBERT.getCompletedDate().value;
+        expectedModel.updateFilteredOrderList(order -> order == ORDER_CAMEMBERT);
+        assertCommandSuccess(new ListOrderCommand(true, Optional.empty(), Optional.of(camembertCompletedDate)),
+                model, String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_orderEditedLater_filterReapplied() throws Exception {
+        LocalDateTime fetaDate = ORDER_FETA.getOrderDate().value;
+        new ListOrderCommand(false, Optional.of(fetaDate), Optional.of(fetaDate)).execute(model);
+
+        Order editedCamembert = new OrderBuilder(ORDER_CAMEMBERT).withOrderDate(VALID_ORDER_DATE_2).build();
+        model.setOrder(ORDER_CAMEMBERT, editedCamembert);
+        model.setOrder(ORDER_FETA, new OrderBuilder(ORDER_FETA).withOrderDate(VALID_ORDER_DATE_1).build());
+        assertEquals(Collections.singletonList(editedCamembert), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_rangeMatchingArchivedOrders_describesArchivedOrders() {
+        Order archivedOrder = new OrderBuilder(ORDER_FETA).withOrderId(100)
+                .withOrderDate("2019-05-01 10:00").withCompletedDate("2019-05-02 10:00").build();
+        Order otherArchivedOrder = new OrderBuilder(ORDER_FETA).withOrderId(101)
+                .withOrderDate("2018-05-01 10:00").withCompletedDate("2018-05-02 10:00").build();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), () ->
+                Arrays.asList(archivedOrder, otherArchivedOrder));
+        expectedModel.updateFilteredOrderList(unused -> false);
+
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 0) + "\n"
+                + String.format(MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, 1) + "\n" + archivedOrder;
+        assertCommandSuccess(new ListOrderCommand(true, Optional.of(LocalDateTime.of(2019, 1, 1, 0, 0)),
+                Optional.of(LocalDateTime.of(2019, 12, 31, 0, 0))), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unreadableArchive_throwsCommandException() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), () -> {
+            throw new DataConversionException(new IOException("corrupted"));
+        });
+        assertCommandFailure(new ListOrderCommand(false, Optional.empty(), Optional.of(LocalDateTime.now())), model,
+                String.format(MESSAGE_ARCHIVE_UNREADABLE, new IOException("corrupted")));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.CheeseType;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StockCommand}.
+ */
+public class StockCommandTest {
+    // CAMEMBERT expires on 2022-03-04 and FETA on 2023-04-04
+    private static final Optional<LocalDateTime> BETWEEN_EXPIRIES = Optional.of(LocalDateTime.of(2022, 6, 1, 0, 0));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StockCommand allCommand = new StockCommand(Optional.empty(), Optional.empty());
+        StockCommand fetaCommand = new StockCommand(Optional.of(FETA.getCheeseType()), Optional.empty());
+
+        assertTrue(allCommand.equals(new StockCommand(Optional.empty(), Optional.empty())));
+        assertFalse(allCommand.equals(null));
+        assertFalse(allCommand.equals(fetaCommand));
+        assertFalse(allCommand.equals(new StockCommand(Optional.empty(), BETWEEN_EXPIRIES)));
+    }
+
+    @Test
+    public void execute_allTypes_showsStockSortedByType() {
+        String expectedMessage = String.format(StockCommand.MESSAGE_STOCK_HEADER, "2022-6-1 00:00")
+                + "\nCamembert: 0 available, 0 reserved, 1 expired"
+                + "\nFeta: 1 available, 0 reserved, 0 expired";
+        assertCommandSuccess(new StockCommand(Optional.empty(), BETWEEN_EXPIRIES), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_typeWithoutCheeses_showsNoStock() {
+        String expectedMessage = String.format(StockCommand.MESSAGE_STOCK_HEADER, "2022-6-1 00:00")
+                + "\nBrie: 0 available, 0 reserved, 0 expired";
+        assertCommandSuccess(new StockCommand(Optional.of(CheeseType.getCheeseType("Brie")), BETWEEN_EXPIRIES),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyAddressBook_showsNoStock() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new StockCommand(Optional.empty(), Optional.empty()), emptyModel,
+                StockCommand.MESSAGE_NO_STOCK, new ModelManager());
+    }
+}
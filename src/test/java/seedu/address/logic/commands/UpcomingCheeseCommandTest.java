@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_CHEESES_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.testutil.CheeseBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExpiringCommand} and {@code MaturingCommand}.
+ */
+public class UpcomingCheeseCommandTest {
+    private static final Optional<LocalDateTime> START_OF_2021 = Optional.of(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ExpiringCommand expiringCommand = new ExpiringCommand(Optional.of(7), Optional.empty(), Optional.empty());
+
+        // same values -> returns true
+        assertTrue(expiringCommand.equals(new ExpiringCommand(Optional.of(7), Optional.empty(), Optional.empty())));
+
+        // null -> returns false
+        assertFalse(expiringCommand.equals(null));
+
+        // different days -> returns false
+        assertFalse(expiringCommand.equals(new ExpiringCommand(Optional.of(8), Optional.empty(), Optional.empty())));
+
+        // different date -> returns false
+        assertFalse(expiringCommand.equals(new MaturingCommand(Optional.of(7), Optional.empty(), Optional.empty())));
+    }
+
+    @Test
+    public void execute_expiringWithinDays_showsCheesesInWindow() {
+        // CAMEMBERT expires on 2022-03-04 and FETA on 2023-04-04
+        ExpiringCommand command = new ExpiringCommand(Optional.of(500), Optional.empty(), START_OF_2021);
+        expectedModel.updateFilteredCheeseList(cheese -> cheese == CAMEMBERT);
+        assertCommandSuccess(command, model, String.format(MESSAGE_CHEESES_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(CAMEMBERT), model.getFilteredCheeseList());
+    }
+
+    @Test
+    public void execute_maturingFirstCount_showsSoonestCheeses() {
+        // CAMEMBERT matures on 2021-04-04 and FETA on 2021-04-06
+        MaturingCommand command = new MaturingCommand(Optional.empty(), Optional.of(1), START_OF_2021);
+        expectedModel.updateFilteredCheeseList(cheese -> cheese == CAMEMBERT);
+        assertCommandSuccess(command, model, String.format(MESSAGE_CHEESES_LISTED_OVERVIEW, 1), expectedModel);
+
+        command = new MaturingCommand(Optional.empty(), Optional.of(5), START_OF_2021);
+        expectedModel.updateFilteredCheeseList(cheese -> true);
+        assertCommandSuccess(command, model, String.format(MESSAGE_CHEESES_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(CAMEMBERT, FETA), model.getFilteredCheeseList());
+    }
+
+    @Test
+    public void execute_cheeseEditedLater_filterReapplied() {
+        new MaturingCommand(Optional.empty(), Optional.of(1), START_OF_2021).execute(model);
+
+        Cheese editedFeta = new CheeseBuilder(FETA).withMaturityDate("2021-03-01 08:00").build();
+        model.setCheese(FETA, editedFeta);
+        assertEquals(Arrays.asList(CAMEMBERT, editedFeta), model.getFilteredCheeseList());
+    }
+}
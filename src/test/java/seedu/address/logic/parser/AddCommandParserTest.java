@@ -32,7 +32,6 @@ import static seedu.address.testutil.TypicalCustomers.BOB;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
-import seedu.address.model.CustomerIdStub;
 import seedu.address.model.customer.Address;
 import seedu.address.model.customer.Customer;
 import seedu.address.model.customer.Email;
@@ -40,60 +39,61 @@ import seedu.address.model.customer.Name;
 import seedu.address.model.customer.Phone;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.CustomerUtil;
 
 public class AddCommandParserTest {
     private AddCommandParser parser = new AddCommandParser();
 
     @Test
     public void parse_allFieldsPresent_success() {
-        Customer expectedCustomer = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        Customer expectedCustomer = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND).build();
 
         // whitespace only preamble
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
-                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, new AddCommand(expectedCustomer));
+                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomer));
 
-        expectedCustomer = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        expectedCustomer = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND).build();
 
         // multiple names - last name accepted
         assertParseSuccess(parser, NAME_DESC_AMY + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
-                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, new AddCommand(expectedCustomer));
+                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomer));
 
-        expectedCustomer = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        expectedCustomer = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND).build();
 
         // multiple phones - last phone accepted
         assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_AMY + PHONE_DESC_BOB + EMAIL_DESC_BOB
-                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, new AddCommand(expectedCustomer));
+                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomer));
 
-        expectedCustomer = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        expectedCustomer = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND).build();
 
         // multiple emails - last email accepted
         assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_AMY + EMAIL_DESC_BOB
-                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, new AddCommand(expectedCustomer));
+                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomer));
 
-        expectedCustomer = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        expectedCustomer = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND).build();
 
         // multiple addresses - last address accepted
         assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_AMY
-                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, new AddCommand(expectedCustomer));
+                + ADDRESS_DESC_BOB + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomer));
 
         // multiple tags - all accepted
-        Customer expectedCustomerMultipleTags = new CustomerBuilder(BOB).withId(CustomerIdStub.getNextId())
+        Customer expectedCustomerMultipleTags = new CustomerBuilder(BOB)
                 .withTags(VALID_TAG_FRIEND, VALID_TAG_HUSBAND).build();
         assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB
-                + TAG_DESC_HUSBAND + TAG_DESC_FRIEND, new AddCommand(expectedCustomerMultipleTags));
+                + TAG_DESC_HUSBAND + TAG_DESC_FRIEND, CustomerUtil.getParsedAddCommand(expectedCustomerMultipleTags));
     }
 
     @Test
     public void parse_optionalFieldsMissing_success() {
         // zero tags
-        Customer expectedCustomer = new CustomerBuilder(AMY).withId(CustomerIdStub.getNextId()).withTags().build();
+        Customer expectedCustomer = new CustomerBuilder(AMY).withTags().build();
         assertParseSuccess(parser, NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY,
-                new AddCommand(expectedCustomer));
+                CustomerUtil.getParsedAddCommand(expectedCustomer));
     }
 
     @Test
@@ -7,25 +7,34 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CUSTOMER;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AllocateCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCheeseCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommandStub;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExpiringCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindOrderCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListOrderCommand;
+import seedu.address.logic.commands.MaturingCommand;
+import seedu.address.logic.commands.StockCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.CustomerIdStub;
 import seedu.address.model.customer.Customer;
 import seedu.address.model.customer.NameContainsKeywordsPredicate;
+import seedu.address.model.order.OrderQuery;
 import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.CustomerUtil;
 import seedu.address.testutil.EditCustomerDescriptorBuilder;
@@ -36,9 +45,9 @@ public class AddressBookParserTest {
 
     @Test
     public void parseCommand_add() throws Exception {
-        Customer customer = new CustomerBuilder().withId(CustomerIdStub.getNextId()).build();
+        Customer customer = new CustomerBuilder().build();
         AddCommand command = (AddCommand) parser.parseCommand(CustomerUtil.getAddCommand(customer));
-        assertEquals(new AddCommand(customer), command);
+        assertEquals(CustomerUtil.getParsedAddCommand(customer), command);
     }
 
     @Test
@@ -54,9 +63,16 @@ public class AddressBookParserTest {
         assertEquals(new DeleteCommand(INDEX_FIRST_CUSTOMER), command);
     }
 
+    @Test
+    public void parseCommand_deleteCheese() throws Exception {
+        DeleteCheeseCommand command = (DeleteCheeseCommand) parser.parseCommand(
+                DeleteCheeseCommand.COMMAND_WORD + " " + INDEX_FIRST_CUSTOMER.getOneBased());
+        assertEquals(new DeleteCheeseCommand(INDEX_FIRST_CUSTOMER), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
-        Customer customer = new CustomerBuilder().withId(CustomerIdStub.getNextId()).build();
+        Customer customer = new CustomerBuilder().build();
         EditCommand.EditCustomerDescriptor descriptor = new EditCustomerDescriptorBuilder(customer).build();
         EditCommand command = (EditCommand) parser.parseCommand(EditCommand.COMMAND_WORD + " "
                 + INDEX_FIRST_CUSTOMER.getOneBased() + " " + CustomerUtil.getEditCustomerDescriptorDetails(descriptor));
@@ -78,6 +94,16 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findOrder() throws Exception {
+        OrderQuery query = new OrderQuery();
+        query.setCustomerId(1);
+        query.setCompleted(false);
+        FindOrderCommand command = (FindOrderCommand) parser.parseCommand(
+                FindOrderCommand.COMMAND_WORD + " c/1 s/pending");
+        assertEquals(new FindOrderCommand(query), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -90,6 +116,32 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_listOrder() throws Exception {
+        assertEquals(new ListOrderCommand(), parser.parseCommand(ListOrderCommand.COMMAND_WORD));
+        assertEquals(new ListOrderCommand(true, Optional.empty(), Optional.of(LocalDateTime.of(2021, 3, 1, 12, 0))),
+                parser.parseCommand(ListOrderCommand.COMMAND_WORD + " completed to/2021-03-01 12:00"));
+    }
+
+    @Test
+    public void parseCommand_expiringAndMaturing() throws Exception {
+        assertEquals(new ExpiringCommand(Optional.of(7), Optional.empty(), Optional.empty()),
+                parser.parseCommand(ExpiringCommand.COMMAND_WORD + " in/7"));
+        assertEquals(new MaturingCommand(Optional.empty(), Optional.of(3), Optional.empty()),
+                parser.parseCommand(MaturingCommand.COMMAND_WORD + " first/3"));
+    }
+
+    @Test
+    public void parseCommand_allocate() throws Exception {
+        assertEquals(new AllocateCommand(Optional.empty()), parser.parseCommand(AllocateCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_stock() throws Exception {
+        assertEquals(new StockCommand(Optional.empty(), Optional.empty()),
+                parser.parseCommand(StockCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AllocateCommand;
+import seedu.address.model.AbstractDate;
+
+public class AllocateCommandParserTest {
+
+    private AllocateCommandParser parser = new AllocateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAllocateCommand() {
+        assertParseSuccess(parser, "", new AllocateCommand(Optional.empty()));
+        assertParseSuccess(parser, " on/2021-03-01",
+                new AllocateCommand(Optional.of(LocalDateTime.of(2021, 3, 1, 0, 0))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " all",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AllocateCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " on/tomorrow", AbstractDate.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.DeleteCheeseCommand;
+
+public class DeleteCheeseCommandParserTest {
+
+    private DeleteCheeseCommandParser parser = new DeleteCheeseCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDeleteCheeseCommand() {
+        assertParseSuccess(parser, "1", new DeleteCheeseCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCheeseCommand.MESSAGE_USAGE));
+    }
+}
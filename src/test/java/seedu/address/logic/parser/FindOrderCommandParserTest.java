@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindOrderCommand;
+import seedu.address.model.AbstractDate;
+import seedu.address.model.AbstractId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.order.OrderQuery;
+
+public class FindOrderCommandParserTest {
+
+    private FindOrderCommandParser parser = new FindOrderCommandParser();
+
+    @Test
+    public void parse_noFilters_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " feta",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " c/0", AbstractId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/yesterday", AbstractDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/shipped", FindOrderCommandParser.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, " from/2021-03-02 to/2021-03-01", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+
+    @Test
+    public void parse_allFilters_returnsFindOrderCommand() {
+        OrderQuery query = new OrderQuery();
+        query.setCustomerId(2);
+        query.setCheeseType(CheeseType.getCheeseType("Feta"));
+        query.setOrderDateFrom(LocalDateTime.of(2021, 3, 1, 0, 0));
+        // A date without a time ends the range at the end of that day
+        query.setOrderDateTo(LocalDateTime.of(2021, 3, 31, 23, 59, 59, 999_999_999));
+        query.setCompleted(false);
+
+        assertParseSuccess(parser, " c/2 ct/Feta from/2021-03-01 to/2021-03-31 s/Pending",
+                new FindOrderCommand(query));
+    }
+
+    @Test
+    public void parse_endDateWithTime_keepsTime() {
+        OrderQuery query = new OrderQuery();
+        query.setOrderDateTo(LocalDateTime.of(2021, 3, 31, 12, 30));
+        query.setCompleted(true);
+
+        assertParseSuccess(parser, " to/2021-03-31 12:30 s/completed", new FindOrderCommand(query));
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListOrderCommand;
+import seedu.address.model.AbstractDate;
+
+public class ListOrderCommandParserTest {
+
+    private ListOrderCommandParser parser = new ListOrderCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "   ", new ListOrderCommand());
+    }
+
+    @Test
+    public void parse_dateRange_returnsListOrderCommand() {
+        // A date without a time ends the range at the end of that day
+        assertParseSuccess(parser, " from/2021-03-01 to/2021-03-31", new ListOrderCommand(false,
+                Optional.of(LocalDateTime.of(2021, 3, 1, 0, 0)),
+                Optional.of(LocalDateTime.of(2021, 3, 31, 23, 59, 59, 999_999_999))));
+
+        assertParseSuccess(parser, " Completed from/2021-03-01 10:00", new ListOrderCommand(true,
+                Optional.of(LocalDateTime.of(2021, 3, 1, 10, 0)), Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " placed from/2021-03-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListOrderCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " to/someday", AbstractDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/2021-03-02 to/2021-03-01", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+
+}
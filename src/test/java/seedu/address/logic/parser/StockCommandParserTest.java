@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StockCommand;
+import seedu.address.model.AbstractDate;
+import seedu.address.model.cheese.CheeseType;
+
+public class StockCommandParserTest {
+
+    private StockCommandParser parser = new StockCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStockCommand() {
+        assertParseSuccess(parser, "  ", new StockCommand(Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " ct/Feta on/2021-03-01", new StockCommand(
+                Optional.of(CheeseType.getCheeseType("Feta")), Optional.of(LocalDateTime.of(2021, 3, 1, 0, 0))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " Feta", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StockCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " on/soon", AbstractDate.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExpiringCommand;
+import seedu.address.model.AbstractDate;
+
+public class UpcomingCheeseCommandParserTest {
+
+    private UpcomingCheeseCommandParser parser =
+            new UpcomingCheeseCommandParser(ExpiringCommand::new, ExpiringCommand.MESSAGE_USAGE);
+
+    @Test
+    public void parse_noDaysOrCount_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/2021-03-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 7", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " in/0", UpcomingCheeseCommandParser.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " first/-2", UpcomingCheeseCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " in/7 from/tomorrow", AbstractDate.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsCommand() {
+        assertParseSuccess(parser, " in/7", new ExpiringCommand(Optional.of(7), Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " first/5 in/30 from/2021-03-01", new ExpiringCommand(Optional.of(30),
+                Optional.of(5), Optional.of(LocalDateTime.of(2021, 3, 1, 0, 0))));
+    }
+
+}
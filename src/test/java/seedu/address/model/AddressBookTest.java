@@ -6,23 +6,44 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.getTypicalCheeses;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.getTypicalCustomers;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.getTypicalOrders;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.cheese.exceptions.CheeseAssignedException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.NameContainsKeywordsPredicate;
 import seedu.address.model.customer.exceptions.DuplicateCustomerException;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.order.OrderQuery;
+import seedu.address.model.order.exceptions.DuplicateOrderException;
+import seedu.address.model.util.ChangeFeed;
 import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.OrderBuilder;
 
 public class AddressBookTest {
 
@@ -56,6 +77,57 @@ public class AddressBookTest {
         assertThrows(DuplicateCustomerException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void bulkLoad_validLists_replacesData() {
+        addressBook.addCustomer(ALICE);
+        addressBook.bulkLoad(getTypicalCustomers(), getTypicalCheeses(), getTypicalOrders());
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void getIdAllocator_afterBulkLoad_skipsIdsInAddressBook() {
+        addressBook.bulkLoad(getTypicalCustomers(), getTypicalCheeses(), getTypicalOrders());
+        IdAllocator idAllocator = addressBook.getIdAllocator();
+
+        assertEquals(getTypicalCustomers().stream().map(Customer::getId).max(CustomerId::compareTo).get().value + 1,
+                idAllocator.allocateCustomerId().value);
+        assertEquals(getTypicalCheeses().stream().map(Cheese::getCheeseId).max(CheeseId::compareTo).get().value + 1,
+                idAllocator.allocateCheeseId().value);
+        assertEquals(getTypicalOrders().stream().map(Order::getOrderId).max(OrderId::compareTo).get().value + 1,
+                idAllocator.allocateOrderId().value);
+    }
+
+    @Test
+    public void getIdAllocator_customerRemoved_idNotHandedOutAgain() {
+        Customer customer = new CustomerBuilder(ALICE).withId(new CustomerId(50)).build();
+        addressBook.addCustomer(customer);
+        addressBook.removeCustomer(customer);
+
+        assertEquals(new CustomerId(51), addressBook.getIdAllocator().allocateCustomerId());
+    }
+
+    @Test
+    public void bulkLoad_duplicateOrders_throwsDuplicateOrderException() {
+        List<Order> duplicateOrders = Arrays.asList(ORDER_CAMEMBERT, ORDER_CAMEMBERT);
+        assertThrows(DuplicateOrderException.class, () -> addressBook.bulkLoad(getTypicalCustomers(),
+                getTypicalCheeses(), duplicateOrders));
+    }
+
+    @Test
+    public void bulkLoad_duplicateOrders_stockOfLoadedCheeses() {
+        addressBook.bulkLoad(getTypicalCustomers(), getTypicalCheeses(), getTypicalOrders());
+        List<Cheese> cheeses = Collections.singletonList(CAMEMBERT);
+        List<Order> duplicateOrders = Arrays.asList(ORDER_CAMEMBERT, ORDER_CAMEMBERT);
+        assertThrows(DuplicateOrderException.class, () -> addressBook.bulkLoad(getTypicalCustomers(),
+                cheeses, duplicateOrders));
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.setCheeses(cheeses);
+        expectedAddressBook.setOrders(getTypicalOrders());
+        LocalDateTime asOf = CAMEMBERT.getManufactureDate().value;
+        assertEquals(expectedAddressBook.getStock(asOf), addressBook.getStock(asOf));
+    }
+
     @Test
     public void hasCustomer_nullCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasCustomer(null));
@@ -80,6 +152,84 @@ public class AddressBookTest {
         assertTrue(addressBook.hasCustomer(editedAlice));
     }
 
+    @Test
+    public void findCustomerById_customerInAddressBook_returnsCustomer() {
+        addressBook.addCustomer(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.findCustomerById(ALICE.getId()));
+    }
+
+    @Test
+    public void findCustomerById_customerNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), addressBook.findCustomerById(ALICE.getId()));
+    }
+
+    @Test
+    public void getModificationCount_onlyChangesWhenDataIsModified() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasCustomer(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addCustomer(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd != initialCount);
+
+        // failed modifications do not count
+        assertThrows(DuplicateCustomerException.class, () -> addressBook.addCustomer(ALICE));
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removeCustomer(ALICE);
+        assertTrue(addressBook.getModificationCount() != countAfterAdd);
+    }
+
+    @Test
+    public void removeCustomer_customerWithOrders_removesOrders() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT), typicalAddressBook.getOrdersOfCustomer(ALICE.getId()));
+
+        typicalAddressBook.removeCustomer(ALICE);
+        assertEquals(Collections.emptyList(), typicalAddressBook.getOrdersOfCustomer(ALICE.getId()));
+        assertFalse(typicalAddressBook.hasOrder(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void removeCheese_cheeseAssignedToOrder_throwsCheeseAssignedException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Order order = new OrderBuilder(ORDER_CAMEMBERT).withCheeses(CAMEMBERT.getCheeseId()).build();
+        typicalAddressBook.setOrder(ORDER_CAMEMBERT, order);
+        assertEquals(Collections.singletonList(order), typicalAddressBook.getOrdersOfCheese(CAMEMBERT.getCheeseId()));
+
+        long modificationCount = typicalAddressBook.getModificationCount();
+        assertThrows(CheeseAssignedException.class, () -> typicalAddressBook.removeCheese(CAMEMBERT));
+        assertTrue(typicalAddressBook.hasCheese(CAMEMBERT));
+        assertEquals(modificationCount, typicalAddressBook.getModificationCount());
+
+        typicalAddressBook.removeOrder(order);
+        typicalAddressBook.removeCheese(CAMEMBERT);
+        assertFalse(typicalAddressBook.hasCheese(CAMEMBERT));
+    }
+
+    @Test
+    public void snapshot_laterModifications_snapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+
+        typicalAddressBook.removeCustomer(ALICE);
+        typicalAddressBook.addCustomer(new CustomerBuilder().withName("Zed").build());
+
+        assertEquals(getTypicalCustomers(), snapshot.getCustomerList());
+        assertEquals(getTypicalOrders(), snapshot.getOrderList());
+        assertEquals(Optional.of(ALICE), snapshot.findCustomerById(ALICE.getId()));
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT), snapshot.getOrdersOfCustomer(ALICE.getId()));
+        assertEquals(new AddressBook(getTypicalAddressBook().snapshot()), new AddressBook(snapshot));
+    }
+
+    @Test
+    public void snapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        ReadOnlyAddressBook snapshot = getTypicalAddressBook().snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getCustomerList().remove(0));
+        assertEquals(snapshot, snapshot.snapshot());
+    }
+
     @Test
     public void getCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getCustomerList().remove(0));
@@ -111,6 +261,91 @@ public class AddressBookTest {
         public ObservableList<Cheese> getCheeseList() {
             return cheeses;
         }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeFeed.Change<Customer> getLatestCustomerChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeFeed.Change<Cheese> getLatestCheeseChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeFeed.Change<Order> getLatestOrderChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Customer> findCustomerById(CustomerId customerId) {
+            return customers.stream().filter(customer -> customer.getId().equals(customerId)).findFirst();
+        }
+
+        @Override
+        public Set<Customer> findCustomersByNameKeywords(List<String> keywords) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            return customers.stream().filter(predicate).collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+            return orders.stream().filter(order -> order.getCustomerId().equals(customerId))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Order> getOrdersOfCheese(CheeseId cheeseId) {
+            return orders.stream().filter(order -> order.getCheeses().contains(cheeseId))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Set<Order> findOrders(OrderQuery query) {
+            return orders.stream().filter(query).collect(Collectors.toSet());
+        }
+
+        @Override
+        public List<Order> getOrdersPlacedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+            return orders.stream().filter(order -> isBetween(order.getOrderDate().value, from, to))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Order> getOrdersCompletedBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+            return orders.stream().filter(order -> order.getCompletedDate() != null
+                    && isBetween(order.getCompletedDate().value, from, to)).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Cheese> getCheesesExpiringBetween(LocalDateTime from, LocalDateTime to, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Cheese> getCheesesMaturingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<CheeseType, StockCount> getStock(LocalDateTime asOf) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StockCount getStock(CheeseType cheeseType, LocalDateTime asOf) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        private static boolean isBetween(LocalDateTime date, Optional<LocalDateTime> from,
+                Optional<LocalDateTime> to) {
+            return !(from.isPresent() && date.isBefore(from.get())) && !(to.isPresent() && date.isAfter(to.get()));
+        }
     }
 
 }
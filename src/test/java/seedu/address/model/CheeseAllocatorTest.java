@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.CheeseBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class CheeseAllocatorTest {
+
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2021, 6, 1, 0, 0);
+
+    private static final Cheese FETA_EXPIRING_2023 = new CheeseBuilder().withCheeseType("Feta")
+            .withExpiryDate("2023-01-01 00:00").withCheeseId(101).build();
+    private static final Cheese FETA_EXPIRING_2022 = new CheeseBuilder().withCheeseType("Feta")
+            .withExpiryDate("2022-01-01 00:00").withCheeseId(102).build();
+    private static final Cheese FETA_EXPIRED = new CheeseBuilder().withCheeseType("Feta")
+            .withExpiryDate("2021-01-01 00:00").withCheeseId(103).build();
+    private static final Cheese FETA_RESERVED = new CheeseBuilder().withCheeseType("Feta")
+            .withExpiryDate("2021-07-01 00:00").withCheeseId(104).build();
+    private static final Cheese BRIE = new CheeseBuilder().withCheeseType("Brie").withCheeseId(105).build();
+
+    private static final List<Cheese> CHEESES =
+            Arrays.asList(FETA_EXPIRING_2023, FETA_EXPIRING_2022, FETA_EXPIRED, FETA_RESERVED, BRIE);
+
+    @Test
+    public void allocate_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CheeseAllocator.allocate(null, Collections.emptyList(), AS_OF));
+        assertThrows(NullPointerException.class, () -> CheeseAllocator.allocate(CHEESES, null, AS_OF));
+        assertThrows(NullPointerException.class, () ->
+                CheeseAllocator.allocate(CHEESES, Collections.emptyList(), null));
+    }
+
+    @Test
+    public void allocate_pendingOrders_servesOldestOrdersWithSoonestExpiringCheeses() {
+        Order completedOrder = new OrderBuilder().withOrderId(201)
+                .withCheeses(FETA_RESERVED.getCheeseId()).build();
+        Order newerOrder = new OrderBuilder().withOrderId(202).withQuantity(2)
+                .withOrderDate("2021-03-01 12:00").withoutCompletedDate().build();
+        Order olderOrder = new OrderBuilder().withOrderId(203).withQuantity(2)
+                .withOrderDate("2021-02-01 12:00").withoutCompletedDate().build();
+        Order camembertOrder = new OrderBuilder().withOrderId(204).withCheeseType("Camembert")
+                .withoutCompletedDate().build();
+
+        List<Order> allocatedOrders = CheeseAllocator.allocate(CHEESES,
+                Arrays.asList(completedOrder, newerOrder, olderOrder, camembertOrder), AS_OF);
+
+        // The expired cheese and the one reserved by the completed order are not available
+        Order expectedOrder = new OrderBuilder(olderOrder)
+                .withCheeses(FETA_EXPIRING_2022.getCheeseId(), FETA_EXPIRING_2023.getCheeseId()).build();
+        assertEquals(Collections.singletonList(expectedOrder), allocatedOrders);
+    }
+
+    @Test
+    public void allocate_partlyFilledOrders_fillsRemainingQuantity() {
+        Order partlyFilledOrder = new OrderBuilder().withOrderId(201).withQuantity(2).withoutCompletedDate()
+                .withCheeses(FETA_RESERVED.getCheeseId()).build();
+        Order laterOrder = new OrderBuilder().withOrderId(202).withQuantity(3)
+                .withOrderDate("2021-03-01 12:00").withoutCompletedDate().build();
+
+        List<Order> allocatedOrders = CheeseAllocator.allocate(CHEESES,
+                Arrays.asList(laterOrder, partlyFilledOrder), AS_OF);
+
+        // The later order is given what is left, even if it is not enough to fill it
+        List<Order> expectedOrders = Arrays.asList(
+                new OrderBuilder(partlyFilledOrder)
+                        .withCheeses(FETA_RESERVED.getCheeseId(), FETA_EXPIRING_2022.getCheeseId()).build(),
+                new OrderBuilder(laterOrder).withCheeses(FETA_EXPIRING_2023.getCheeseId()).build());
+        assertEquals(expectedOrders, allocatedOrders);
+    }
+}
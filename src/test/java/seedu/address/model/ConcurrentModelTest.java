@@ -0,0 +1,182 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.NameContainsKeywordsPredicate;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CustomerBuilder;
+
+public class ConcurrentModelTest {
+
+    private final List<Runnable> pendingViewUpdates = new ArrayList<>();
+
+    @Test
+    public void getDisplayedCustomerList_mutation_updatedByViewUpdater() {
+        ConcurrentModel model = new ConcurrentModel(new ModelManager(), pendingViewUpdates::add);
+        model.addCustomer(ALICE);
+
+        assertTrue(model.hasCustomer(ALICE));
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredCustomerList());
+        assertEquals(Collections.emptyList(), model.getDisplayedCustomerList());
+
+        pendingViewUpdates.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(ALICE), model.getDisplayedCustomerList());
+    }
+
+    @Test
+    public void getDisplayedOrderAndCheeseLists_mutation_updatedByViewUpdater() {
+        ConcurrentModel model = new ConcurrentModel(new ModelManager(getTypicalAddressBook(), new UserPrefs()),
+                pendingViewUpdates::add);
+        List<Order> orders = new ArrayList<>(model.getFilteredOrderList());
+        List<Cheese> cheeses = new ArrayList<>(model.getFilteredCheeseList());
+        model.deleteOrder(ORDER_FETA);
+        model.deleteCheese(FETA);
+
+        assertFalse(model.getFilteredOrderList().contains(ORDER_FETA));
+        assertFalse(model.getFilteredCheeseList().contains(FETA));
+        assertEquals(orders, model.getDisplayedOrderList());
+        assertEquals(cheeses, model.getDisplayedCheeseList());
+
+        pendingViewUpdates.forEach(Runnable::run);
+        assertEquals(model.getFilteredOrderList(), model.getDisplayedOrderList());
+        assertEquals(model.getFilteredCheeseList(), model.getDisplayedCheeseList());
+    }
+
+    @Test
+    public void updateFilteredCustomerList_viewUpdaterPending_filteredListUpdatedAtOnce() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withCustomer(ALICE)
+                .withCustomer(BENSON).build(), new UserPrefs());
+        ConcurrentModel model = new ConcurrentModel(modelManager, pendingViewUpdates::add);
+
+        model.updateFilteredCustomerList(new NameContainsKeywordsPredicate(Collections.singletonList("Benson")));
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredCustomerList());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getDisplayedCustomerList());
+
+        pendingViewUpdates.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(BENSON), model.getDisplayedCustomerList());
+    }
+
+    @Test
+    public void setCustomer_viewUpdaterOnSameThread_onlyEditedCustomerReplacedInDisplayedList() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withCustomer(ALICE)
+                .withCustomer(BENSON).build(), new UserPrefs());
+        ConcurrentModel model = new ConcurrentModel(modelManager, Runnable::run);
+        List<Integer> changedFrom = new ArrayList<>();
+        List<Integer> changedTo = new ArrayList<>();
+        model.getDisplayedCustomerList().addListener((ListChangeListener<Customer>) change -> {
+            while (change.next()) {
+                changedFrom.add(change.getFrom());
+                changedTo.add(change.getTo());
+            }
+        });
+
+        Customer editedBenson = new CustomerBuilder(BENSON).withPhone("99999999").build();
+        model.setCustomer(BENSON, editedBenson);
+
+        assertEquals(Arrays.asList(ALICE, editedBenson), model.getDisplayedCustomerList());
+        assertEquals(Collections.singletonList(1), changedFrom);
+        assertEquals(Collections.singletonList(2), changedTo);
+    }
+
+    @Test
+    public void getAddressBook_laterMutation_snapshotUnchanged() {
+        ConcurrentModel model = new ConcurrentModel(new ModelManager(), Runnable::run);
+        model.addCustomer(ALICE);
+
+        ReadOnlyAddressBook snapshot = model.getAddressBook();
+        model.addCustomer(BENSON);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getCustomerList());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getAddressBook().getCustomerList());
+    }
+
+    @Test
+    public void getArchivedOrderList_archiveBeingRead_mutationsNotBlocked() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<ConcurrentModel> models = new ArrayList<>();
+        OrderArchive archive = () -> {
+            // A mutation from another thread completes while the archive is being read
+            try {
+                executor.submit(() -> models.get(0).addCustomer(ALICE)).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new AssertionError("The mutation was blocked by reading the archive.", e);
+            }
+            return Collections.emptyList();
+        };
+        models.add(new ConcurrentModel(new ModelManager(new AddressBook(), new UserPrefs(), archive), Runnable::run));
+
+        try {
+            assertEquals(Collections.emptyList(), models.get(0).getArchivedOrderList());
+            assertTrue(models.get(0).hasCustomer(ALICE));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void addCustomer_concurrentWritersAndReaders_allWritesApplied() throws Exception {
+        final int writerCount = 4;
+        final int customersPerWriter = 200;
+        ConcurrentModel model = new ConcurrentModel(new ModelManager(), Runnable::run);
+        long initialModificationCount = model.getAddressBookModificationCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2 * writerCount);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < writerCount; i++) {
+                final int writer = i;
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < customersPerWriter; j++) {
+                        CustomerId id = model.getIdAllocator().allocateCustomerId();
+                        model.addCustomer(new CustomerBuilder().withName("Writer " + writer + " Customer " + j)
+                                .withId(id).build());
+                    }
+                }));
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < customersPerWriter; j++) {
+                        assertFalse(model.hasCustomer(ALICE));
+                        model.findCustomersByNameKeywords(Collections.singletonList("Writer"));
+                        model.getAddressBookModificationCount();
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int customerCount = writerCount * customersPerWriter;
+        assertEquals(customerCount, model.getAddressBook().getCustomerList().size());
+        assertEquals(customerCount, model.getFilteredCustomerList().size());
+        assertEquals(customerCount, model.getDisplayedCustomerList().size());
+        assertEquals(initialModificationCount + customerCount, model.getAddressBookModificationCount());
+        Customer lastCustomer = model.getFilteredCustomerList().get(customerCount - 1);
+        assertEquals(lastCustomer, model.findCustomerById(lastCustomer.getId()).get());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.OrderId;
+
+public class IdAllocatorTest {
+
+    private final IdAllocator idAllocator = new IdAllocator();
+
+    @Test
+    public void constructor_invalidFirstId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdAllocator(0));
+    }
+
+    @Test
+    public void allocate_eachKindCountedSeparately() {
+        assertEquals(new CustomerId(IdAllocator.FIRST_ID), idAllocator.allocateCustomerId());
+        assertEquals(new CustomerId(IdAllocator.FIRST_ID + 1), idAllocator.allocateCustomerId());
+        assertEquals(new CheeseId(IdAllocator.FIRST_ID), idAllocator.allocateCheeseId());
+        assertEquals(new OrderId(IdAllocator.FIRST_ID), idAllocator.allocateOrderId());
+        assertEquals(new CheeseId(IdAllocator.FIRST_ID + 1), idAllocator.peekCheeseId());
+    }
+
+    @Test
+    public void reserve_block_consecutiveIds() {
+        idAllocator.allocateCheeseId();
+
+        assertEquals(Arrays.asList(new CheeseId(2), new CheeseId(3), new CheeseId(4)),
+                idAllocator.reserveCheeseIds(3));
+        assertEquals(Collections.emptyList(), idAllocator.reserveCheeseIds(0));
+        assertEquals(new CheeseId(5), idAllocator.allocateCheeseId());
+    }
+
+    @Test
+    public void reserve_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, IdAllocator.MESSAGE_INVALID_COUNT, () ->
+                idAllocator.reserveOrderIds(-1));
+    }
+
+    @Test
+    public void markTaken_raisesNextIdPastTakenId() {
+        idAllocator.markTaken(new OrderId(1000));
+        assertEquals(new OrderId(1001), idAllocator.allocateOrderId());
+
+        // Marking a lower id does not lower the next id
+        idAllocator.markTaken(new OrderId(5));
+        assertEquals(new OrderId(1002), idAllocator.allocateOrderId());
+
+        // Other kinds of ids are not affected
+        assertEquals(new CustomerId(IdAllocator.FIRST_ID), idAllocator.peekCustomerId());
+    }
+
+    @Test
+    public void markTaken_otherAllocator_takesIdsTakenInOther() {
+        IdAllocator other = new IdAllocator();
+        other.markTaken(new OrderId(500));
+        other.allocateCheeseId();
+        idAllocator.markTaken(new CustomerId(20));
+
+        idAllocator.markTaken(other);
+        assertEquals(new OrderId(501), idAllocator.peekOrderId());
+        assertEquals(new CheeseId(IdAllocator.FIRST_ID + 1), idAllocator.peekCheeseId());
+        assertEquals(new CustomerId(21), idAllocator.peekCustomerId());
+    }
+
+    @Test
+    public void allocate_fromSeveralThreads_distinctConsecutiveIds() throws Exception {
+        final int threadCount = 4;
+        final int allocationsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<CustomerId>>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    List<CustomerId> ids = new ArrayList<>();
+                    for (int j = 0; j < allocationsPerThread; j++) {
+                        ids.add(idAllocator.allocateCustomerId());
+                    }
+                    ids.addAll(idAllocator.reserveCustomerIds(allocationsPerThread));
+                    return ids;
+                }));
+            }
+
+            Set<CustomerId> allocatedIds = new HashSet<>();
+            for (Future<List<CustomerId>> result : results) {
+                allocatedIds.addAll(result.get());
+            }
+            int totalCount = 2 * threadCount * allocationsPerThread;
+            assertEquals(totalCount, allocatedIds.size());
+            assertEquals(new CustomerId(IdAllocator.FIRST_ID + totalCount), idAllocator.peekCustomerId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
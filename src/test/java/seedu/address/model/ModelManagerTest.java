@@ -7,15 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
 import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.customer.NameContainsKeywordsPredicate;
+import seedu.address.model.order.Order;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +98,21 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCustomerList().remove(0));
     }
 
+    @Test
+    public void getArchivedOrderList_calledTwice_readsArchiveOnce() throws Exception {
+        List<Order> archivedOrders = Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA);
+        AtomicInteger reads = new AtomicInteger();
+        modelManager = new ModelManager(new AddressBook(), new UserPrefs(), () -> {
+            reads.incrementAndGet();
+            return archivedOrders;
+        });
+        assertEquals(0, reads.get());
+
+        assertEquals(archivedOrders, modelManager.getArchivedOrderList());
+        assertEquals(archivedOrders, modelManager.getArchivedOrderList());
+        assertEquals(1, reads.get());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCustomer(ALICE).withCustomer(BENSON).build();
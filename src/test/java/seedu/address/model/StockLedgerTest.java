@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.StockCount;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.CheeseBuilder;
+
+public class StockLedgerTest {
+
+    // CAMEMBERT expires on 2022-03-04 and FETA on 2023-04-04
+    private static final LocalDateTime BEFORE_EXPIRY = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final LocalDateTime BETWEEN_EXPIRIES = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+    private final StockLedger stockLedger = new StockLedger();
+
+    @Test
+    public void getStock_cheesesAddedAndRemoved_countsAvailable() {
+        Cheese secondFeta = new CheeseBuilder(FETA).withCheeseId(3).build();
+        stockLedger.addCheese(CAMEMBERT);
+        stockLedger.addCheese(FETA);
+        stockLedger.addCheese(secondFeta);
+
+        Map<CheeseType, StockCount> expectedStock = new HashMap<>();
+        expectedStock.put(CAMEMBERT.getCheeseType(), new StockCount(1, 0, 0));
+        expectedStock.put(FETA.getCheeseType(), new StockCount(2, 0, 0));
+        assertEquals(expectedStock, stockLedger.getStock(BEFORE_EXPIRY));
+
+        stockLedger.removeCheese(CAMEMBERT);
+        assertEquals(StockCount.NONE, stockLedger.getStock(CAMEMBERT.getCheeseType(), BEFORE_EXPIRY));
+        assertEquals(Collections.singleton(FETA.getCheeseType()), stockLedger.getStock(BEFORE_EXPIRY).keySet());
+    }
+
+    @Test
+    public void getStock_ordersAddedAndRemoved_countsReserved() {
+        stockLedger.addCheese(CAMEMBERT);
+        Order order = orderOf(CAMEMBERT, FETA);
+
+        // FETA is reserved before it is added to the address book
+        stockLedger.addOrder(order);
+        stockLedger.addCheese(FETA);
+        assertEquals(new StockCount(0, 1, 0), stockLedger.getStock(CAMEMBERT.getCheeseType(), BEFORE_EXPIRY));
+        assertEquals(new StockCount(0, 1, 0), stockLedger.getStock(FETA.getCheeseType(), BEFORE_EXPIRY));
+
+        stockLedger.removeOrder(order);
+        assertEquals(new StockCount(1, 0, 0), stockLedger.getStock(CAMEMBERT.getCheeseType(), BEFORE_EXPIRY));
+        assertEquals(new StockCount(1, 0, 0), stockLedger.getStock(FETA.getCheeseType(), BEFORE_EXPIRY));
+    }
+
+    @Test
+    public void getStock_timeMovesAcrossExpiry_countsExpired() {
+        stockLedger.reset(Arrays.asList(CAMEMBERT, FETA), Collections.emptyList());
+
+        assertEquals(new StockCount(0, 0, 1), stockLedger.getStock(CAMEMBERT.getCheeseType(), BETWEEN_EXPIRIES));
+        assertEquals(new StockCount(1, 0, 0), stockLedger.getStock(FETA.getCheeseType(), BETWEEN_EXPIRIES));
+
+        // Cheeses reserved after expiring are no longer counted as expired
+        Order order = orderOf(CAMEMBERT);
+        stockLedger.addOrder(order);
+        assertEquals(new StockCount(0, 1, 0), stockLedger.getStock(CAMEMBERT.getCheeseType(), BETWEEN_EXPIRIES));
+        stockLedger.removeOrder(order);
+
+        // Asking about an earlier time moves the cheeses back
+        assertEquals(new StockCount(1, 0, 0), stockLedger.getStock(CAMEMBERT.getCheeseType(), BEFORE_EXPIRY));
+    }
+
+    @Test
+    public void reset_replacesContents() {
+        stockLedger.addCheese(CAMEMBERT);
+        stockLedger.reset(Collections.singletonList(FETA), Collections.singletonList(orderOf(FETA)));
+
+        Map<CheeseType, StockCount> expectedStock = new HashMap<>();
+        expectedStock.put(FETA.getCheeseType(), new StockCount(0, 1, 0));
+        assertEquals(expectedStock, stockLedger.getStock(BEFORE_EXPIRY));
+    }
+
+    private static Order orderOf(Cheese... cheeses) {
+        Set<CheeseId> cheeseIds = new HashSet<>();
+        Arrays.stream(cheeses).forEach(cheese -> cheeseIds.add(cheese.getCheeseId()));
+        return new Order(ORDER_FETA.getCheeseType(), ORDER_FETA.getQuantity(), ORDER_FETA.getOrderDate(),
+                ORDER_FETA.getCompletedDate(), cheeseIds, ORDER_FETA.getOrderId(), ORDER_FETA.getCustomerId());
+    }
+}
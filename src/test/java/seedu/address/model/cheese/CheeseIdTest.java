@@ -13,19 +13,10 @@ public class CheeseIdTest {
     }
 
     @Test
-    public void getNextId_autoincrement_success() {
-        CheeseId cheeseId = CheeseId.getNextId();
-        CheeseId cheeseId2 = CheeseId.getNextId();
-        assertEquals(cheeseId.value + 1, cheeseId2.value);
-    }
-
-    @Test
-    public void getNextId_maxAutoincrement_success() {
-        // Creates a cheese id with the given large value
+    public void constructor_validId_success() {
+        // Creating an id has no effect on the ids created after it
         final int largeValue = 1000;
-        new CheeseId(largeValue);
-
-        CheeseId orderId2 = CheeseId.getNextId();
-        assertEquals(largeValue + 1, orderId2.value);
+        assertEquals(largeValue, new CheeseId(largeValue).value);
+        assertEquals(1, new CheeseId(1).value);
     }
 }
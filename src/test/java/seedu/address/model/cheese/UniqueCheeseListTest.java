@@ -0,0 +1,158 @@
+package seedu.address.model.cheese;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_BRIE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EXPIRY_DATE_2;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.FETA;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.cheese.exceptions.CheeseNotFoundException;
+import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
+import seedu.address.testutil.CheeseBuilder;
+
+public class UniqueCheeseListTest {
+
+    private final UniqueCheeseList uniqueCheeseList = new UniqueCheeseList();
+
+    @Test
+    public void contains_nullCheese_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueCheeseList.contains(null));
+    }
+
+    @Test
+    public void contains_cheeseNotInList_returnsFalse() {
+        assertFalse(uniqueCheeseList.contains(CAMEMBERT));
+    }
+
+    @Test
+    public void contains_cheeseWithSameIdInList_returnsTrue() {
+        uniqueCheeseList.add(CAMEMBERT);
+        Cheese editedCamembert = new CheeseBuilder(CAMEMBERT).withExpiryDate(VALID_EXPIRY_DATE_2).build();
+        assertTrue(uniqueCheeseList.contains(editedCamembert));
+    }
+
+    @Test
+    public void add_duplicateCheese_throwsDuplicateCheeseException() {
+        uniqueCheeseList.add(CAMEMBERT);
+        assertThrows(DuplicateCheeseException.class, () -> uniqueCheeseList.add(CAMEMBERT));
+    }
+
+    @Test
+    public void findById_cheeseInList_returnsCheese() {
+        uniqueCheeseList.add(CAMEMBERT);
+        assertEquals(Optional.of(CAMEMBERT), uniqueCheeseList.findById(CAMEMBERT.getCheeseId()));
+        assertEquals(Optional.empty(), uniqueCheeseList.findById(FETA.getCheeseId()));
+    }
+
+    @Test
+    public void findByType_afterMutations_returnsCheesesOfType() {
+        uniqueCheeseList.add(CAMEMBERT);
+        uniqueCheeseList.add(FETA);
+        assertEquals(Collections.singletonList(CAMEMBERT), uniqueCheeseList.findByType(CAMEMBERT.getCheeseType()));
+
+        Cheese brie = new CheeseBuilder(CAMEMBERT).withCheeseType(VALID_CHEESE_TYPE_BRIE).build();
+        uniqueCheeseList.setCheese(CAMEMBERT, brie);
+        assertEquals(Collections.emptyList(), uniqueCheeseList.findByType(CAMEMBERT.getCheeseType()));
+        assertEquals(Collections.singletonList(brie), uniqueCheeseList.findByType(brie.getCheeseType()));
+
+        uniqueCheeseList.remove(brie);
+        assertEquals(Collections.emptyList(), uniqueCheeseList.findByType(brie.getCheeseType()));
+        assertEquals(Collections.singletonList(FETA), uniqueCheeseList.findByType(FETA.getCheeseType()));
+    }
+
+    @Test
+    public void setCheese_targetCheeseNotInList_throwsCheeseNotFoundException() {
+        assertThrows(CheeseNotFoundException.class, () -> uniqueCheeseList.setCheese(CAMEMBERT, CAMEMBERT));
+    }
+
+    @Test
+    public void setCheese_editedCheeseHasNonUniqueIdentity_throwsDuplicateCheeseException() {
+        uniqueCheeseList.add(CAMEMBERT);
+        uniqueCheeseList.add(FETA);
+        assertThrows(DuplicateCheeseException.class, () -> uniqueCheeseList.setCheese(CAMEMBERT, FETA));
+    }
+
+    @Test
+    public void remove_cheeseDoesNotExist_throwsCheeseNotFoundException() {
+        assertThrows(CheeseNotFoundException.class, () -> uniqueCheeseList.remove(CAMEMBERT));
+    }
+
+    @Test
+    public void remove_existingCheese_keepsRemainingCheesesAccessible() {
+        uniqueCheeseList.add(CAMEMBERT);
+        uniqueCheeseList.add(FETA);
+        uniqueCheeseList.remove(CAMEMBERT);
+        uniqueCheeseList.remove(FETA);
+        assertEquals(new UniqueCheeseList(), uniqueCheeseList);
+    }
+
+    @Test
+    public void setCheeses_list_replacesOwnListWithProvidedList() {
+        uniqueCheeseList.add(CAMEMBERT);
+        List<Cheese> cheeseList = Collections.singletonList(FETA);
+        uniqueCheeseList.setCheeses(cheeseList);
+        UniqueCheeseList expectedUniqueCheeseList = new UniqueCheeseList();
+        expectedUniqueCheeseList.add(FETA);
+        assertEquals(expectedUniqueCheeseList, uniqueCheeseList);
+        assertEquals(Collections.emptyList(), uniqueCheeseList.findByType(CAMEMBERT.getCheeseType()));
+    }
+
+    @Test
+    public void setCheeses_listWithDuplicateCheeses_throwsDuplicateCheeseException() {
+        List<Cheese> listWithDuplicateCheeses = Arrays.asList(CAMEMBERT, CAMEMBERT);
+        assertThrows(DuplicateCheeseException.class, () -> uniqueCheeseList.setCheeses(listWithDuplicateCheeses));
+    }
+
+    @Test
+    public void getCheesesExpiringBetween_windowAndLimit_returnsSoonestFirst() {
+        uniqueCheeseList.add(FETA);
+        uniqueCheeseList.add(CAMEMBERT);
+        LocalDateTime camembertExpiry = CAMEMBERT.getExpiryDate().value;
+
+        assertEquals(Arrays.asList(CAMEMBERT, FETA),
+                uniqueCheeseList.getCheesesExpiringBetween(LocalDateTime.MIN, LocalDateTime.MAX, Integer.MAX_VALUE));
+        assertEquals(Collections.singletonList(CAMEMBERT),
+                uniqueCheeseList.getCheesesExpiringBetween(LocalDateTime.MIN, LocalDateTime.MAX, 1));
+        assertEquals(Collections.singletonList(CAMEMBERT),
+                uniqueCheeseList.getCheesesExpiringBetween(camembertExpiry, camembertExpiry, Integer.MAX_VALUE));
+        assertEquals(Collections.singletonList(FETA), uniqueCheeseList.getCheesesExpiringBetween(
+                camembertExpiry.plusMinutes(1), LocalDateTime.MAX, Integer.MAX_VALUE));
+        assertEquals(Collections.emptyList(),
+                uniqueCheeseList.getCheesesExpiringBetween(LocalDateTime.MAX, LocalDateTime.MIN, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getCheesesMaturingBetween_afterMutations_returnsCurrentCheeses() {
+        uniqueCheeseList.add(CAMEMBERT);
+        uniqueCheeseList.add(FETA);
+        Cheese editedFeta = new CheeseBuilder(FETA).withMaturityDate("2021-04-01 07:00").build();
+        uniqueCheeseList.setCheese(FETA, editedFeta);
+        assertEquals(Arrays.asList(editedFeta, CAMEMBERT),
+                uniqueCheeseList.getCheesesMaturingBetween(LocalDateTime.MIN, LocalDateTime.MAX, Integer.MAX_VALUE));
+
+        uniqueCheeseList.remove(editedFeta);
+        assertEquals(Collections.singletonList(CAMEMBERT),
+                uniqueCheeseList.getCheesesMaturingBetween(LocalDateTime.MIN, LocalDateTime.MAX, Integer.MAX_VALUE));
+
+        uniqueCheeseList.setCheeses(Collections.singletonList(FETA));
+        assertEquals(Collections.singletonList(FETA),
+                uniqueCheeseList.getCheesesMaturingBetween(LocalDateTime.MIN, LocalDateTime.MAX, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueCheeseList.asUnmodifiableObservableList().remove(0));
+    }
+}
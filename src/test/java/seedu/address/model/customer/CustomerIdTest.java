@@ -5,40 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.CustomerIdStub;
-
 public class CustomerIdTest {
     @Test
     public void constructor_invalidId_throwsIllegalArgumentException() {
         int invalidId = -1;
-        assertThrows(IllegalArgumentException.class, () -> CustomerId.getNextId(invalidId));
+        assertThrows(IllegalArgumentException.class, () -> new CustomerId(invalidId));
     }
 
     @Test
-    public void getNextId_autoincrement_success() {
-        CustomerId customerId = CustomerId.getNextId();
-        CustomerId customerId2 = CustomerId.getNextId();
-        assertEquals(customerId.value + 1, customerId2.value);
-    }
-
-    @Test
-    public void getNextId_maxAutoincrement_success() {
-        // Creates an customer id with the given large value
+    public void constructor_validId_success() {
+        // Creating an id has no effect on the ids created after it
         final int largeValue = 1000;
-        CustomerId.getNextId(largeValue);
-
-        CustomerId nextCustomerId = CustomerId.getNextId();
-        assertEquals(largeValue + 1, nextCustomerId.value);
-    }
-
-    // Ensures that Customer stub is working as intended
-    @Test
-    public void getNextIdStub_maxNoAutoincrement_success() {
-        // Creates an customer stub with the given large value
-        final int largeValue = CustomerIdStub.getNextIdValue() + 10;
-        CustomerId.getNextId(largeValue);
-
-        CustomerId nextCustomerStubId = CustomerIdStub.getNextId();
-        assertEquals(largeValue + 1, nextCustomerStubId.value);
+        assertEquals(largeValue, new CustomerId(largeValue).value);
+        assertEquals(1, new CustomerId(1).value);
     }
 }
@@ -7,11 +7,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
 import static seedu.address.testutil.TypicalCustomers.BOB;
+import static seedu.address.testutil.TypicalCustomers.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +51,41 @@ public class UniqueCustomerListTest {
         assertTrue(uniqueCustomerList.contains(editedAlice));
     }
 
+    @Test
+    public void findById_afterMutations_returnsCurrentCustomer() {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.add(BOB);
+        assertEquals(Optional.of(ALICE), uniqueCustomerList.findById(ALICE.getId()));
+
+        uniqueCustomerList.remove(ALICE);
+        assertEquals(Optional.empty(), uniqueCustomerList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniqueCustomerList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void findByNameKeywords_afterMutations_returnsCurrentMatches() {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.add(BENSON);
+        uniqueCustomerList.add(HOON);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, HOON)),
+                uniqueCustomerList.findByNameKeywords(Collections.singletonList("mEIer")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, HOON)),
+                uniqueCustomerList.findByNameKeywords(Arrays.asList("alice", "meier", "unknown")));
+        assertEquals(Collections.emptySet(), uniqueCustomerList.findByNameKeywords(Collections.singletonList("Mei")));
+
+        Customer editedHoon = new CustomerBuilder(HOON).withName("Hoon Kunz").build();
+        uniqueCustomerList.setCustomer(HOON, editedHoon);
+        uniqueCustomerList.remove(BENSON);
+        assertEquals(Collections.emptySet(), uniqueCustomerList.findByNameKeywords(Collections.singletonList("meier")));
+        assertEquals(Collections.singleton(editedHoon),
+                uniqueCustomerList.findByNameKeywords(Collections.singletonList("kunz")));
+
+        uniqueCustomerList.setCustomers(Collections.singletonList(BENSON));
+        assertEquals(Collections.emptySet(), uniqueCustomerList.findByNameKeywords(Collections.singletonList("kunz")));
+        assertEquals(Collections.singleton(BENSON),
+                uniqueCustomerList.findByNameKeywords(Collections.singletonList("Benson")));
+    }
+
     @Test
     public void add_nullCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.add(null));
@@ -58,6 +97,14 @@ public class UniqueCustomerListTest {
         assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.add(ALICE));
     }
 
+    @Test
+    public void add_customerWithTakenId_throwsDuplicateCustomerException() {
+        uniqueCustomerList.add(ALICE);
+        Customer otherWithAliceId = new CustomerBuilder(BOB).withId(ALICE.getId()).build();
+        assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.add(otherWithAliceId));
+        assertEquals(Optional.of(ALICE), uniqueCustomerList.findById(ALICE.getId()));
+    }
+
     @Test
     public void setCustomer_nullTargetCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.setCustomer(null, ALICE));
@@ -109,6 +156,14 @@ public class UniqueCustomerListTest {
         assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.setCustomer(ALICE, BOB));
     }
 
+    @Test
+    public void setCustomer_editedCustomerHasIdOfOtherCustomer_throwsDuplicateCustomerException() {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.add(BOB);
+        Customer editedAlice = new CustomerBuilder(ALICE).withId(BOB.getId()).build();
+        assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.setCustomer(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.remove(null));
@@ -163,6 +218,12 @@ public class UniqueCustomerListTest {
                 .setCustomers(listWithDuplicateCustomers));
     }
 
+    @Test
+    public void setCustomers_listWithCustomersSharingId_throwsDuplicateCustomerException() {
+        List<Customer> listSharingId = Arrays.asList(ALICE, new CustomerBuilder(BOB).withId(ALICE.getId()).build());
+        assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.setCustomers(listSharingId));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
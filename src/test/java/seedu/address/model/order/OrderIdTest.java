@@ -13,19 +13,10 @@ public class OrderIdTest {
     }
 
     @Test
-    public void getNextId_autoincrement_success() {
-        OrderId orderId = OrderId.getNextId();
-        OrderId orderId2 = OrderId.getNextId();
-        assertEquals(orderId.value + 1, orderId2.value);
-    }
-
-    @Test
-    public void getNextId_maxAutoincrement_success() {
-        // Creates an order id with the given large value
+    public void constructor_validId_success() {
+        // Creating an id has no effect on the ids created after it
         final int largeValue = 1000;
-        new OrderId(largeValue);
-
-        OrderId orderId2 = OrderId.getNextId();
-        assertEquals(largeValue + 1, orderId2.value);
+        assertEquals(largeValue, new OrderId(largeValue).value);
+        assertEquals(1, new OrderId(1).value);
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.order;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_BRIE;
@@ -79,6 +80,7 @@ public class OrderTest {
         // Same values -> returns true
         Order camembertOrderCopy = new OrderBuilder(ORDER_CAMEMBERT).build();
         assertTrue(ORDER_CAMEMBERT.equals(camembertOrderCopy));
+        assertEquals(ORDER_CAMEMBERT.hashCode(), camembertOrderCopy.hashCode());
 
         // Same object -> returns true
         assertTrue(ORDER_CAMEMBERT.equals(ORDER_CAMEMBERT));
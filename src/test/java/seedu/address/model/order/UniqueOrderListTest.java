@@ -0,0 +1,309 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_FETA;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPLETED_DATE_2;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_5;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.order.exceptions.DuplicateOrderException;
+import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.util.ChangeFeed;
+import seedu.address.testutil.OrderBuilder;
+
+public class UniqueOrderListTest {
+
+    private final UniqueOrderList uniqueOrderList = new UniqueOrderList();
+
+    @Test
+    public void contains_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.contains(null));
+    }
+
+    @Test
+    public void contains_orderNotInList_returnsFalse() {
+        assertFalse(uniqueOrderList.contains(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void contains_orderWithSameIdInList_returnsTrue() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        Order editedOrder = new OrderBuilder(ORDER_CAMEMBERT).withQuantity(VALID_QUANTITY_5).build();
+        assertTrue(uniqueOrderList.contains(editedOrder));
+    }
+
+    @Test
+    public void findById_orderInList_returnsOrder() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        assertEquals(Optional.of(ORDER_CAMEMBERT), uniqueOrderList.findById(ORDER_CAMEMBERT.getOrderId()));
+        assertEquals(Optional.empty(), uniqueOrderList.findById(ORDER_FETA.getOrderId()));
+    }
+
+    @Test
+    public void add_duplicateOrder_throwsDuplicateOrderException() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.add(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void setOrder_targetOrderNotInList_throwsOrderNotFoundException() {
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList.setOrder(ORDER_CAMEMBERT, ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void setOrder_editedOrderHasDifferentIdentity_success() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.setOrder(ORDER_CAMEMBERT, ORDER_FETA);
+        UniqueOrderList expectedUniqueOrderList = new UniqueOrderList();
+        expectedUniqueOrderList.add(ORDER_FETA);
+        assertEquals(expectedUniqueOrderList, uniqueOrderList);
+        assertFalse(uniqueOrderList.contains(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void setOrder_editedOrderHasNonUniqueIdentity_throwsDuplicateOrderException() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.add(ORDER_FETA);
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.setOrder(ORDER_CAMEMBERT, ORDER_FETA));
+    }
+
+    @Test
+    public void remove_orderDoesNotExist_throwsOrderNotFoundException() {
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList.remove(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void remove_orderWithDifferentFields_throwsOrderNotFoundException() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        Order editedOrder = new OrderBuilder(ORDER_CAMEMBERT).withQuantity(VALID_QUANTITY_5).build();
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList.remove(editedOrder));
+    }
+
+    @Test
+    public void remove_existingOrder_keepsRemainingOrdersAccessible() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.add(ORDER_FETA);
+        uniqueOrderList.remove(ORDER_CAMEMBERT);
+
+        // ORDER_FETA has shifted position and must still be found
+        uniqueOrderList.remove(ORDER_FETA);
+        assertEquals(new UniqueOrderList(), uniqueOrderList);
+    }
+
+    @Test
+    public void removeAll_severalRunsOfOrders_removesOrdersAndRecordsChanges() {
+        List<Order> orders = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            orders.add(new OrderBuilder(ORDER_FETA).withOrderId(id).build());
+        }
+        orders.forEach(uniqueOrderList::add);
+        ChangeFeed.Change<Order> start = uniqueOrderList.getLatestChange();
+
+        uniqueOrderList.removeAll(Arrays.asList(orders.get(4), orders.get(1), orders.get(2)));
+        assertEquals(Arrays.asList(orders.get(0), orders.get(3), orders.get(5)),
+                uniqueOrderList.asUnmodifiableObservableList());
+
+        // The changes recorded turn the list before the removal into the list after it
+        List<Order> replayed = new ArrayList<>(orders);
+        for (ChangeFeed.Change<Order> change : start.changesUntil(uniqueOrderList.getLatestChange()).get()) {
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAdded());
+        }
+        assertEquals(uniqueOrderList.asUnmodifiableObservableList(), replayed);
+
+        // The remaining orders have shifted position and must still be found
+        uniqueOrderList.remove(orders.get(5));
+        uniqueOrderList.remove(orders.get(3));
+        assertEquals(Collections.singletonList(orders.get(0)), uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_orderDoesNotExist_listUnchanged() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        assertThrows(OrderNotFoundException.class, () ->
+                uniqueOrderList.removeAll(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA)));
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT), uniqueOrderList.asUnmodifiableObservableList());
+        assertTrue(uniqueOrderList.getOrdersOfCustomer(ORDER_CAMEMBERT.getCustomerId()).contains(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void setOrders_list_replacesOwnListWithProvidedList() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        List<Order> orderList = Collections.singletonList(ORDER_FETA);
+        uniqueOrderList.setOrders(orderList);
+        UniqueOrderList expectedUniqueOrderList = new UniqueOrderList();
+        expectedUniqueOrderList.add(ORDER_FETA);
+        assertEquals(expectedUniqueOrderList, uniqueOrderList);
+        assertFalse(uniqueOrderList.contains(ORDER_CAMEMBERT));
+    }
+
+    @Test
+    public void setOrders_listWithDuplicateOrders_throwsDuplicateOrderException() {
+        List<Order> listWithDuplicateOrders = Arrays.asList(ORDER_CAMEMBERT, ORDER_CAMEMBERT);
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.setOrders(listWithDuplicateOrders));
+    }
+
+    @Test
+    public void findOrders_singleCriterion_returnsMatchingOrders() {
+        Order pendingOrder = new OrderBuilder(ORDER_CAMEMBERT).withOrderId(3).withoutCompletedDate().build();
+        uniqueOrderList.setOrders(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA, pendingOrder));
+
+        OrderQuery query = new OrderQuery();
+        query.setCustomerId(ORDER_CAMEMBERT.getCustomerId().value);
+        assertEquals(new HashSet<>(Arrays.asList(ORDER_CAMEMBERT, pendingOrder)), uniqueOrderList.findOrders(query));
+
+        query = new OrderQuery();
+        query.setCheeseType(ORDER_FETA.getCheeseType());
+        assertEquals(Collections.singleton(ORDER_FETA), uniqueOrderList.findOrders(query));
+
+        query = new OrderQuery();
+        query.setCompleted(false);
+        assertEquals(Collections.singleton(pendingOrder), uniqueOrderList.findOrders(query));
+
+        query = new OrderQuery();
+        query.setOrderDateFrom(ORDER_FETA.getOrderDate().value);
+        assertEquals(Collections.singleton(ORDER_FETA), uniqueOrderList.findOrders(query));
+        query.setOrderDateTo(ORDER_FETA.getOrderDate().value.minusMinutes(1));
+        assertEquals(Collections.emptySet(), uniqueOrderList.findOrders(query));
+
+        assertEquals(new HashSet<>(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA, pendingOrder)),
+                uniqueOrderList.findOrders(new OrderQuery()));
+    }
+
+    @Test
+    public void findOrders_severalCriteria_returnsOrdersMatchingAll() {
+        Order pendingOrder = new OrderBuilder(ORDER_CAMEMBERT).withOrderId(3).withoutCompletedDate().build();
+        uniqueOrderList.setOrders(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA, pendingOrder));
+
+        // Answered from the pending orders, the smallest index entry, but must still match every criterion
+        OrderQuery query = new OrderQuery();
+        query.setCheeseType(ORDER_CAMEMBERT.getCheeseType());
+        query.setOrderDateTo(ORDER_FETA.getOrderDate().value);
+        query.setCompleted(false);
+        assertEquals(Collections.singleton(pendingOrder), uniqueOrderList.findOrders(query));
+
+        query.setCustomerId(ORDER_FETA.getCustomerId().value);
+        assertEquals(Collections.emptySet(), uniqueOrderList.findOrders(query));
+    }
+
+    @Test
+    public void findOrders_afterMutations_returnsCurrentMatches() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.add(ORDER_FETA);
+        OrderQuery query = new OrderQuery();
+        query.setCheeseType(ORDER_FETA.getCheeseType());
+
+        Order editedCamembert = new OrderBuilder(ORDER_CAMEMBERT).withCheeseType(VALID_CHEESE_TYPE_FETA).build();
+        uniqueOrderList.setOrder(ORDER_CAMEMBERT, editedCamembert);
+        assertEquals(new HashSet<>(Arrays.asList(editedCamembert, ORDER_FETA)), uniqueOrderList.findOrders(query));
+
+        // An equal order that is not the instance in the list must still be removed from the indexes
+        uniqueOrderList.remove(new OrderBuilder(ORDER_FETA).build());
+        assertEquals(Collections.singleton(editedCamembert), uniqueOrderList.findOrders(query));
+
+        uniqueOrderList.setOrders(Collections.singletonList(ORDER_CAMEMBERT));
+        assertEquals(Collections.emptySet(), uniqueOrderList.findOrders(query));
+    }
+
+    @Test
+    public void getOrdersPlacedBetween_range_returnsOrdersInDateOrder() {
+        uniqueOrderList.add(ORDER_FETA);
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        LocalDateTime camembertDate = ORDER_CAMEMBERT.getOrderDate().value;
+        LocalDateTime fetaDate = ORDER_FETA.getOrderDate().value;
+
+        assertEquals(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA),
+                uniqueOrderList.getOrdersPlacedBetween(Optional.empty(), Optional.empty()));
+        assertEquals(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA),
+                uniqueOrderList.getOrdersPlacedBetween(Optional.of(camembertDate), Optional.of(fetaDate)));
+        assertEquals(Collections.singletonList(ORDER_FETA),
+                uniqueOrderList.getOrdersPlacedBetween(Optional.of(camembertDate.plusMinutes(1)), Optional.empty()));
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT),
+                uniqueOrderList.getOrdersPlacedBetween(Optional.empty(), Optional.of(fetaDate.minusMinutes(1))));
+        assertEquals(Collections.emptyList(),
+                uniqueOrderList.getOrdersPlacedBetween(Optional.of(fetaDate), Optional.of(camembertDate)));
+    }
+
+    @Test
+    public void getOrdersCompletedBetween_afterMutations_returnsCurrentOrders() {
+        Order pendingOrder = new OrderBuilder(ORDER_CAMEMBERT).withOrderId(3).withoutCompletedDate().build();
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.add(pendingOrder);
+        LocalDateTime camembertDate = ORDER_CAMEMBERT.getCompletedDate().value;
+        Optional<LocalDateTime> inMarch = Optional.of(LocalDateTime.of(2022, 3, 1, 0, 0));
+
+        // Pending orders have no completed date and are never in range
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT),
+                uniqueOrderList.getOrdersCompletedBetween(Optional.empty(), Optional.empty()));
+
+        Order completedOrder = new OrderBuilder(pendingOrder).withCompletedDate(VALID_COMPLETED_DATE_2).build();
+        uniqueOrderList.setOrder(pendingOrder, completedOrder);
+        assertEquals(Collections.singletonList(completedOrder),
+                uniqueOrderList.getOrdersCompletedBetween(inMarch, Optional.empty()));
+
+        uniqueOrderList.remove(completedOrder);
+        assertEquals(Collections.emptyList(), uniqueOrderList.getOrdersCompletedBetween(inMarch, Optional.empty()));
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT),
+                uniqueOrderList.getOrdersCompletedBetween(Optional.of(camembertDate), Optional.of(camembertDate)));
+    }
+
+    @Test
+    public void remove_equalCopyOfOrder_removedFromIndexes() {
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.remove(new OrderBuilder(ORDER_CAMEMBERT).build());
+
+        assertEquals(Collections.emptyList(), uniqueOrderList.getOrdersOfCustomer(ORDER_CAMEMBERT.getCustomerId()));
+        OrderQuery query = new OrderQuery();
+        query.setCustomerId(ORDER_CAMEMBERT.getCustomerId().value);
+        assertEquals(Collections.emptySet(), uniqueOrderList.findOrders(query));
+    }
+
+    @Test
+    public void getOrdersOfCustomerAndCheese_afterMutations_returnsCurrentOrders() {
+        CheeseId cheeseId = new CheeseId(1);
+        uniqueOrderList.add(ORDER_CAMEMBERT);
+        uniqueOrderList.add(ORDER_FETA);
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT),
+                uniqueOrderList.getOrdersOfCustomer(ORDER_CAMEMBERT.getCustomerId()));
+        assertEquals(Collections.emptyList(), uniqueOrderList.getOrdersOfCheese(cheeseId));
+
+        Order editedFeta = new OrderBuilder(ORDER_FETA).withCustomerId(ORDER_CAMEMBERT.getCustomerId())
+                .withCheeses(cheeseId).build();
+        uniqueOrderList.setOrder(ORDER_FETA, editedFeta);
+        assertEquals(new HashSet<>(Arrays.asList(ORDER_CAMEMBERT, editedFeta)),
+                new HashSet<>(uniqueOrderList.getOrdersOfCustomer(ORDER_CAMEMBERT.getCustomerId())));
+        assertEquals(Collections.emptyList(), uniqueOrderList.getOrdersOfCustomer(ORDER_FETA.getCustomerId()));
+        assertEquals(Collections.singletonList(editedFeta), uniqueOrderList.getOrdersOfCheese(cheeseId));
+
+        uniqueOrderList.remove(editedFeta);
+        assertEquals(Collections.emptyList(), uniqueOrderList.getOrdersOfCheese(cheeseId));
+        assertEquals(Collections.singletonList(ORDER_CAMEMBERT),
+                uniqueOrderList.getOrdersOfCustomer(ORDER_CAMEMBERT.getCustomerId()));
+    }
+
+    @Test
+    public void findOrders_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.findOrders(null));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueOrderList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeFeedTest {
+
+    private final ChangeFeed<String> feed = new ChangeFeed<>();
+
+    @Test
+    public void changesUntil_laterChange_returnsChangesInOrder() {
+        ChangeFeed.Change<String> start = feed.getLatest();
+        feed.record(0, 0, Arrays.asList("a", "b"));
+        feed.record(1, 1, Collections.emptyList());
+        ChangeFeed.Change<String> middle = feed.getLatest();
+        feed.record(1, 0, Collections.singletonList("c"));
+
+        List<ChangeFeed.Change<String>> changes = start.changesUntil(feed.getLatest()).get();
+        assertEquals(3, changes.size());
+        assertEquals(Arrays.asList("a", "b"), changes.get(0).getAdded());
+        assertEquals(1, changes.get(1).getFrom());
+        assertEquals(1, changes.get(1).getRemovedSize());
+        assertEquals(Collections.singletonList("c"), changes.get(2).getAdded());
+
+        assertEquals(1, middle.changesUntil(feed.getLatest()).get().size());
+        assertTrue(middle.changesUntil(middle).get().isEmpty());
+    }
+
+    @Test
+    public void changesUntil_earlierChangeOrOtherFeed_returnsEmpty() {
+        ChangeFeed.Change<String> start = feed.getLatest();
+        feed.record(0, 0, Collections.singletonList("a"));
+
+        assertFalse(feed.getLatest().changesUntil(start).isPresent());
+        assertFalse(start.changesUntil(new ChangeFeed<String>().getLatest()).isPresent());
+    }
+}
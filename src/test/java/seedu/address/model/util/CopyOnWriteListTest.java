@@ -0,0 +1,64 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CopyOnWriteListTest {
+
+    private final CopyOnWriteList<String> list = new CopyOnWriteList<>();
+
+    @Test
+    public void modify_noSnapshot_behavesLikeArrayList() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add("element " + i);
+            expected.add("element " + i);
+        }
+        list.add(3, "inserted");
+        expected.add(3, "inserted");
+        list.set(0, "replaced");
+        expected.set(0, "replaced");
+        list.remove(5);
+        expected.remove(5);
+        list.subList(10, 15).clear();
+        expected.subList(10, 15).clear();
+
+        assertEquals(expected, list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(expected.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(expected.size() + 1, "out of bounds"));
+    }
+
+    @Test
+    public void snapshot_laterModifications_snapshotUnchanged() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+        List<String> snapshot = list.snapshot();
+        List<String> sameSnapshot = list.snapshot();
+
+        list.set(0, "x");
+        list.add("d");
+        list.remove(1);
+        assertEquals(Arrays.asList("a", "b", "c"), snapshot);
+        assertEquals(snapshot, sameSnapshot);
+        assertEquals(Arrays.asList("x", "c", "d"), list);
+
+        List<String> secondSnapshot = list.snapshot();
+        list.clear();
+        assertEquals(Arrays.asList("x", "c", "d"), secondSnapshot);
+        assertEquals(Collections.emptyList(), list);
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        list.add("a");
+        List<String> snapshot = list.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, "b"));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedPredicateTest {
+
+    private final String match = new String("match");
+    private final IndexedPredicate<String> predicate = new IndexedPredicate<>(Collections.singletonList(match), s -> {
+        throw new AssertionError("The predicate should not be evaluated before the filter is applied.");
+    });
+
+    @Test
+    public void test_notApplied_testsLookedUpMatches() {
+        assertTrue(predicate.test(match));
+        assertFalse(predicate.test("other"));
+        // An equal element that is not one of the matches is not a match
+        assertFalse(predicate.test(new String("match")));
+    }
+
+    @Test
+    public void test_applied_testsPredicate() {
+        IndexedPredicate<String> applied = new IndexedPredicate<>(Collections.singletonList(match),
+                s -> s.startsWith("m"));
+        applied.markApplied();
+
+        assertTrue(applied.test(new String("match")));
+        assertTrue(applied.test("more"));
+        assertFalse(applied.test("other"));
+    }
+}
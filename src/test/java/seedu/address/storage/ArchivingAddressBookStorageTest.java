@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+import seedu.address.testutil.OrderBuilder;
+
+public class ArchivingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_oldCompletedOrders_movedToArchive() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Order recentOrder = new OrderBuilder().withOrderId(100)
+                .withCompletedDate(LocalDate.now().toString()).build();
+        original.addOrder(recentOrder);
+        jsonStorage.saveAddressBook(original);
+
+        JsonOrderArchive archive = new JsonOrderArchive(JsonOrderArchive.getArchiveFilePath(filePath));
+        ReadOnlyAddressBook read = new ArchivingAddressBookStorage(jsonStorage, archive, 30).readAddressBook().get();
+
+        AddressBook expected = new AddressBook(original);
+        expected.removeOrder(ORDER_CAMEMBERT);
+        expected.removeOrder(ORDER_FETA);
+        assertEquals(expected, read);
+        assertEquals(expected, jsonStorage.readAddressBook().get());
+        assertEquals(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA), archive.readOrders());
+    }
+
+    @Test
+    public void readAddressBook_noOldCompletedOrders_nothingArchived() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        JsonOrderArchive archive = new JsonOrderArchive(JsonOrderArchive.getArchiveFilePath(filePath));
+        ReadOnlyAddressBook read = new ArchivingAddressBookStorage(jsonStorage, archive, Integer.MAX_VALUE)
+                .readAddressBook().get();
+
+        assertEquals(getTypicalAddressBook(), read);
+        assertEquals(Collections.emptyList(), archive.readOrders());
+    }
+
+    @Test
+    public void readAddressBook_otherFile_nothingArchived() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        JsonOrderArchive archive = new JsonOrderArchive(JsonOrderArchive.getArchiveFilePath(filePath));
+        ReadOnlyAddressBook read = new ArchivingAddressBookStorage(jsonStorage, archive, 30)
+                .readAddressBook(otherFilePath).get();
+
+        assertEquals(getTypicalAddressBook(), read);
+        assertEquals(Collections.emptyList(), archive.readOrders());
+    }
+
+    @Test
+    public void readAddressBook_afterArchiving_archivedOrderIdsNotHandedOut() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addOrder(new OrderBuilder(ORDER_FETA).withOrderId(500).build());
+        jsonStorage.saveAddressBook(original);
+
+        JsonOrderArchive archive = new JsonOrderArchive(JsonOrderArchive.getArchiveFilePath(filePath));
+        ArchivingAddressBookStorage storage = new ArchivingAddressBookStorage(jsonStorage, archive, 30);
+        storage.readAddressBook();
+
+        // The archived orders are no longer in the address book read again
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(new OrderId(501), read.getIdAllocator().allocateOrderId());
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AutosavingAddressBookStorageTest {
+
+    private static final long NEVER = TimeUnit.HOURS.toMillis(1);
+
+    private final AddressBookStorageStub stub = new AddressBookStorageStub();
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writtenOnceWithLatestData() throws Exception {
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, NEVER, NEVER, failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addCustomer(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(Collections.emptyList(), stub.saved);
+
+        storage.flush();
+        assertEquals(Collections.singletonList(addressBook), stub.saved);
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesDataAsSaved() throws Exception {
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, NEVER, NEVER, failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addCustomer(HOON);
+
+        storage.flush();
+        assertEquals(Collections.singletonList(getTypicalAddressBook()), stub.saved);
+    }
+
+    @Test
+    public void saveAddressBook_maxDelayReached_writtenInBackground() throws Exception {
+        stub.expectedSaves = new CountDownLatch(1);
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, NEVER, 10, failures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(stub.expectedSaves.await(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(getTypicalAddressBook()), stub.saved);
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFails_reportsFailureAndRetriesOnFlush() throws Exception {
+        stub.failure = new IOException("dummy exception");
+        stub.expectedSaves = new CountDownLatch(1);
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, 10, NEVER, failures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(stub.expectedSaves.await(10, TimeUnit.SECONDS));
+
+        // the retry on closing runs after the failure has been reported, and fails again
+        assertThrows(IOException.class, storage::close);
+        assertEquals(Collections.singletonList(stub.failure), failures);
+        assertEquals(2, stub.saveAttempts);
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailsTwice_retriedInBackgroundUntilWritten() throws Exception {
+        stub.failure = new IOException("dummy exception");
+        stub.failuresLeft = 2;
+        stub.expectedSaves = new CountDownLatch(3);
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, NEVER, 10, failures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(stub.expectedSaves.await(10, TimeUnit.SECONDS));
+
+        assertEquals(Collections.singletonList(getTypicalAddressBook()), stub.saved);
+        assertEquals(Arrays.asList(stub.failure, stub.failure), failures);
+        assertEquals(3, stub.saveAttempts);
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() {
+        stub.failure = new IOException("dummy exception");
+        AutosavingAddressBookStorage storage = new AutosavingAddressBookStorage(stub, NEVER, NEVER, failures::add);
+
+        assertThrows(IOException.class, () -> {
+            storage.saveAddressBook(new AddressBook());
+            storage.flush();
+        });
+        assertEquals(Collections.emptyList(), failures);
+    }
+
+    /**
+     * A stub that records the address books it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile IOException failure;
+        private volatile int failuresLeft = Integer.MAX_VALUE;
+        private volatile CountDownLatch expectedSaves = new CountDownLatch(0);
+        private volatile int saveAttempts;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("addressBook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAttempts++;
+            try {
+                if (failure != null && failuresLeft-- > 0) {
+                    throw failure;
+                }
+                saved.add(new AddressBook(addressBook));
+            } finally {
+                expectedSaves.countDown();
+            }
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+import seedu.address.testutil.OrderBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.addOrder(new Order(ORDER_FETA.getCheeseType(), ORDER_FETA.getQuantity(), ORDER_FETA.getOrderDate(),
+                ORDER_FETA.getCompletedDate(), Collections.singleton(CAMEMBERT.getCheeseId()), new OrderId(100),
+                ORDER_FETA.getCustomerId()));
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_pendingOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.addOrder(new OrderBuilder(ORDER_FETA).withOrderId(100).withoutCompletedDate().build());
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFileExists_importsJsonFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = createStorage();
+        assertEquals(original, storage.readAddressBook().get());
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_jsonFilePath_exportsJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path exportFilePath = testFolder.resolve("export.json");
+
+        createStorage().saveAddressBook(original, exportFilePath);
+        assertEquals(original, new JsonAddressBookStorage(exportFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.write(storage.getAddressBookFilePath(), "{\"customers\":[]}".getBytes());
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] contents = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(contents, contents.length - 1));
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_writesSmallerFileThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original, testFolder.resolve("addressbook.json"));
+
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"),
+                testFolder.resolve("addressbook.json"));
+    }
+}
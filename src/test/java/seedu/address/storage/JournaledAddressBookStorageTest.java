@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalCustomers.IDA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath, 10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addCustomer(HOON);
+        // The edited customer keeps the id that an order refers to
+        original.setCustomer(BENSON, new CustomerBuilder(IDA).withId(BENSON.getId()).build());
+        original.removeCustomer(ALICE);
+        original.removeCheese(CAMEMBERT);
+        storage.saveAddressBook(original);
+
+        // only the journal has been written to
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_pendingOrders_savedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addOrder(new OrderBuilder(ORDER_FETA).withOrderId(100).withoutCompletedDate().build());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        original.addOrder(new OrderBuilder(ORDER_FETA).withOrderId(101).withoutCompletedDate().build());
+        storage.saveAddressBook(original);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalReachesThreshold_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        original.addCustomer(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornChangeAtEndOfJournal_ignoresChange() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"collection\":\"customers\",\"from\":0,\"rem".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidChangeBeforeLastLine_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"collection\":\"suppliers\",\"from\":0,\"removed\":0,\"added\":[]}\n"
+                        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_malformedChangeBeforeLastLine_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"collection\":\"customers\",\"from\":0,\"rem\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        // a compaction interrupted after its snapshot was written
+        JsonAddressBookWriter.write(original, filePath);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_changeOutsideOfList_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(new AddressBook());
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"collection\":\"customers\",\"from\":0,\"removed\":1,\"added\":[]}\n"
+                        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("Temp.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private ReadOnlyAddressBook readAddressBook(Path filePath) throws Exception {
+        return new JournaledAddressBookStorage(filePath, 10).readAddressBook().get();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalModels;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_CUSTOMERS_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path INVALID_CUSTOMER_FILE = TEST_DATA_FOLDER.resolve("invalidCustomerAddressBook.json");
+    private static final Path DUPLICATE_CUSTOMER_FILE = TEST_DATA_FOLDER.resolve("duplicateCustomerAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @Test
+    public void read_typicalFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_CUSTOMERS_FILE);
+        assertEquals(TypicalModels.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidCustomerFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_CUSTOMER_FILE));
+    }
+
+    @Test
+    public void read_duplicateCustomers_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CUSTOMER, () ->
+                JsonAddressBookReader.read(DUPLICATE_CUSTOMER_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FILE));
+    }
+}
@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +88,21 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_parallelLoad_sameAsStreamed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            JsonAddressBookStorage parallelStorage = new JsonAddressBookStorage(filePath, Optional.of(pool));
+            assertEquals(original, parallelStorage.readAddressBook().get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+import seedu.address.testutil.TypicalModels;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = TypicalModels.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(addressBook, filePath);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingFile_replacesFileWithoutLeavingTempFiles() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("addressBook.json");
+        JsonAddressBookWriter.write(TypicalModels.getTypicalAddressBook(), filePath);
+        JsonAddressBookWriter.write(new AddressBook(), filePath);
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void write_pendingOrder_writesNullCompletedDate() throws Exception {
+        AddressBook addressBook = TypicalModels.getTypicalAddressBook();
+        Order pendingOrder = new Order(ORDER_FETA.getCheeseType(), ORDER_FETA.getQuantity(),
+                ORDER_FETA.getOrderDate(), null, new OrderId(100), ORDER_FETA.getCustomerId());
+        addressBook.addOrder(pendingOrder);
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookWriter.write(addressBook, filePath);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+        List<Order> readOrders = JsonAddressBookReader.read(filePath).getOrderList();
+        Order readOrder = readOrders.get(readOrders.size() - 1);
+        assertEquals(pendingOrder.getOrderId(), readOrder.getOrderId());
+        assertNull(readOrder.getCompletedDate());
+    }
+}
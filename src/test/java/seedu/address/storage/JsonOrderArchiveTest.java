@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JsonOrderArchiveTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readOrders_missingFile_emptyResult() throws Exception {
+        JsonOrderArchive archive = new JsonOrderArchive(testFolder.resolve("orders.archive"));
+        assertEquals(Collections.emptyList(), archive.readOrders());
+        assertEquals(0, archive.readHighestOrderId());
+    }
+
+    @Test
+    public void append_severalBatches_readInOrder() throws Exception {
+        JsonOrderArchive archive = new JsonOrderArchive(testFolder.resolve("orders.archive"));
+
+        archive.append(Collections.singletonList(ORDER_FETA));
+        archive.append(Collections.singletonList(ORDER_CAMEMBERT));
+
+        assertEquals(Arrays.asList(ORDER_FETA, ORDER_CAMEMBERT), archive.readOrders());
+        assertEquals(ORDER_FETA.getOrderId().value, archive.readHighestOrderId());
+    }
+
+    @Test
+    public void append_afterTornBatch_tornBatchIgnored() throws Exception {
+        Path filePath = testFolder.resolve("orders.archive");
+        JsonOrderArchive archive = new JsonOrderArchive(filePath);
+
+        archive.append(Collections.singletonList(ORDER_CAMEMBERT));
+        Files.write(filePath, "{\"highestOrderId\":9,\"orders\":[{\"orderId\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(ORDER_CAMEMBERT.getOrderId().value, archive.readHighestOrderId());
+
+        archive.append(Collections.singletonList(ORDER_FETA));
+        assertEquals(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA), archive.readOrders());
+        assertEquals(ORDER_FETA.getOrderId().value, archive.readHighestOrderId());
+    }
+
+    @Test
+    public void readOrders_orderArchivedTwice_readOnce() throws Exception {
+        JsonOrderArchive archive = new JsonOrderArchive(testFolder.resolve("orders.archive"));
+
+        archive.append(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA));
+        archive.append(Collections.singletonList(ORDER_FETA));
+
+        assertEquals(Arrays.asList(ORDER_CAMEMBERT, ORDER_FETA), archive.readOrders());
+    }
+}
@@ -2,15 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BOB;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.customer.Customer;
+import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.TypicalModels;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +27,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_CUSTOMERS_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
     private static final Path INVALID_CUSTOMER_FILE = TEST_DATA_FOLDER.resolve("invalidCustomerAddressBook.json");
     private static final Path DUPLICATE_CUSTOMER_FILE = TEST_DATA_FOLDER.resolve("duplicateCustomerAddressBook.json");
+    private static final Path MISSING_REFERENCES_FILE = TEST_DATA_FOLDER.resolve("missingReferencesAddressBook.json");
 
     @Test
     public void toModelType_typicalFile_success() throws Exception {
@@ -44,4 +53,28 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toAddressBook_customersSharingId_throwsIllegalValueException() {
+        List<Customer> customers = List.of(ALICE, new CustomerBuilder(BOB).withId(ALICE.getId()).build());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CUSTOMER, () ->
+                JsonSerializableAddressBook.toAddressBook(customers, List.of(), List.of()));
+    }
+
+    @Test
+    public void toModelType_assignedCheeses_keepsAssignments() throws Exception {
+        AddressBook original = TypicalModels.getTypicalAddressBook();
+        original.setOrder(ORDER_FETA, new OrderBuilder(ORDER_FETA).withCheeses(FETA.getCheeseId()).build());
+        assertEquals(original, new JsonSerializableAddressBook(original).toModelType());
+    }
+
+    @Test
+    public void toModelType_missingReferences_reportsAllMissingReferences() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MISSING_REFERENCES_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_MISSING_REFERENCES
+                + "\n" + String.format(ReferenceChecker.MESSAGE_MISSING_CHEESE, 1, 9)
+                + "\n" + String.format(ReferenceChecker.MESSAGE_MISSING_CUSTOMER, 2, 8);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
 }
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IdAllocator;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.OrderId;
+import seedu.address.testutil.CheeseBuilder;
+import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class ParallelRecordDecoderTest {
+
+    private static final int FIRST_ID = 1_000_000;
+    private static final int CUSTOMER_COUNT = 3 * ParallelRecordDecoder.CHUNK_SIZE + 1;
+    private static final int CHEESE_COUNT = 5 * ParallelRecordDecoder.CHUNK_SIZE + 7;
+
+    // The workers of a fork-join pool are daemon threads, so the pool need not be shut down
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final ParallelRecordDecoder decoder = new ParallelRecordDecoder(POOL);
+
+    @Test
+    public void decode_manyRecords_sameAsSequentialConversion() throws Exception {
+        List<JsonAdaptedCustomer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            customers.add(new JsonAdaptedCustomer(new CustomerBuilder().withName("Customer " + i)
+                    .withId(new CustomerId(FIRST_ID + i)).build()));
+        }
+        List<JsonAdaptedCheese> cheeses = new ArrayList<>();
+        List<JsonAdaptedOrder> orders = new ArrayList<>();
+        for (int i = 0; i < CHEESE_COUNT; i++) {
+            cheeses.add(new JsonAdaptedCheese(new CheeseBuilder().withCheeseId(FIRST_ID + i).build()));
+            orders.add(new JsonAdaptedOrder(new OrderBuilder().withOrderId(FIRST_ID + i)
+                    .withCustomerId(new CustomerId(FIRST_ID + i % CUSTOMER_COUNT))
+                    .withCheeses(new CheeseId(FIRST_ID + i)).build()));
+        }
+
+        AddressBook expected = new JsonSerializableAddressBook(customers, cheeses, orders).toModelType();
+        AddressBook decoded = decoder.decode(customers, cheeses, orders);
+        assertEquals(expected, decoded);
+
+        IdAllocator idAllocator = decoded.getIdAllocator();
+        assertEquals(new CustomerId(FIRST_ID + CUSTOMER_COUNT), idAllocator.peekCustomerId());
+        assertEquals(new CheeseId(FIRST_ID + CHEESE_COUNT), idAllocator.peekCheeseId());
+        assertEquals(new OrderId(FIRST_ID + CHEESE_COUNT), idAllocator.peekOrderId());
+    }
+
+    @Test
+    public void decode_invalidRecordsInSeveralChunks_reportsFirstInvalidRecord() {
+        List<JsonAdaptedCheese> cheeses = new ArrayList<>();
+        for (int i = 0; i < CHEESE_COUNT; i++) {
+            cheeses.add(new JsonAdaptedCheese(new CheeseBuilder().withCheeseId(i + 1).build()));
+        }
+        JsonAdaptedCheese missingType = new JsonAdaptedCheese(2 * ParallelRecordDecoder.CHUNK_SIZE, null,
+                CheeseBuilder.DEFAULT_MANUFACTURE_DATE, CheeseBuilder.DEFAULT_MATURITY_DATE,
+                CheeseBuilder.DEFAULT_EXPIRY_DATE);
+        JsonAdaptedCheese invalidId = new JsonAdaptedCheese(-1, CheeseBuilder.DEFAULT_CHEESE_TYPE,
+                CheeseBuilder.DEFAULT_MANUFACTURE_DATE, CheeseBuilder.DEFAULT_MATURITY_DATE,
+                CheeseBuilder.DEFAULT_EXPIRY_DATE);
+        cheeses.set(2 * ParallelRecordDecoder.CHUNK_SIZE, missingType);
+        cheeses.set(4 * ParallelRecordDecoder.CHUNK_SIZE, invalidId);
+
+        String expectedMessage = String.format(JsonAdaptedCheese.MISSING_FIELD_MESSAGE_FORMAT,
+                CheeseType.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                decoder.decode(new ArrayList<>(), cheeses, new ArrayList<>()));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class SplitJsonAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(new SplitJsonAddressBookStorage(testFolder).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SplitJsonAddressBookStorage storage = new SplitJsonAddressBookStorage(testFolder);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new SplitJsonAddressBookStorage(testFolder).readAddressBook().get());
+
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new SplitJsonAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_oneCollectionModified_onlyRewritesItsFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SplitJsonAddressBookStorage storage = new SplitJsonAddressBookStorage(testFolder);
+        storage.saveAddressBook(original);
+        Files.delete(testFolder.resolve(SplitJsonAddressBookStorage.CHEESES_FILE));
+        Files.delete(testFolder.resolve(SplitJsonAddressBookStorage.ORDERS_FILE));
+
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(testFolder.resolve(SplitJsonAddressBookStorage.CHEESES_FILE)));
+        assertFalse(Files.exists(testFolder.resolve(SplitJsonAddressBookStorage.ORDERS_FILE)));
+        assertTrue(FileUtil.readFromFile(testFolder.resolve(SplitJsonAddressBookStorage.CUSTOMERS_FILE))
+                .contains(HOON.getName().fullName));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfSameAddressBook_onlyRewritesModifiedFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SplitJsonAddressBookStorage storage = new SplitJsonAddressBookStorage(testFolder);
+        storage.saveAddressBook(original.snapshot());
+        String savedOrders = FileUtil.readFromFile(testFolder.resolve(SplitJsonAddressBookStorage.ORDERS_FILE));
+        Files.delete(testFolder.resolve(SplitJsonAddressBookStorage.CUSTOMERS_FILE));
+        Files.delete(testFolder.resolve(SplitJsonAddressBookStorage.CHEESES_FILE));
+
+        original.removeOrder(original.getOrderList().get(0));
+        storage.saveAddressBook(original.snapshot());
+
+        assertFalse(Files.exists(testFolder.resolve(SplitJsonAddressBookStorage.CUSTOMERS_FILE)));
+        assertFalse(Files.exists(testFolder.resolve(SplitJsonAddressBookStorage.CHEESES_FILE)));
+        assertNotEquals(savedOrders,
+                FileUtil.readFromFile(testFolder.resolve(SplitJsonAddressBookStorage.ORDERS_FILE)));
+    }
+
+    @Test
+    public void saveAddressBook_otherDirectory_writesAllFiles() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SplitJsonAddressBookStorage storage = new SplitJsonAddressBookStorage(testFolder);
+        storage.saveAddressBook(original);
+
+        Path otherFolder = Files.createDirectory(testFolder.resolve("other"));
+        storage.saveAddressBook(original, otherFolder);
+        assertEquals(original, storage.readAddressBook(otherFolder).get());
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(testFolder.resolve(SplitJsonAddressBookStorage.ORDERS_FILE), "not json");
+        assertThrows(DataConversionException.class, () ->
+                new SplitJsonAddressBookStorage(testFolder).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        SplitJsonAddressBookStorage storage = new SplitJsonAddressBookStorage(testFolder);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import seedu.address.model.IdAllocator;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
@@ -17,6 +18,9 @@ public class CheeseBuilder {
     public static final String DEFAULT_MATURITY_DATE = "2021-08-05 08:00";
     public static final String DEFAULT_EXPIRY_DATE = "2023-08-05 00:00";
 
+    // Hands out the ids of cheeses built without one, above the ids of the typical cheeses
+    private static final IdAllocator GENERATED_IDS = new IdAllocator(1000);
+
     private CheeseType cheeseType;
     private ManufactureDate manufactureDate;
     private MaturityDate maturityDate;
@@ -91,11 +95,8 @@ public class CheeseBuilder {
      * @return an {@code Cheese} representation of data
      */
     public Cheese build() {
-        if (cheeseId == null) {
-            return new Cheese(cheeseType, manufactureDate, maturityDate, expiryDate);
-        } else {
-            return new Cheese(cheeseType, manufactureDate, maturityDate, expiryDate, cheeseId);
-        }
+        CheeseId id = cheeseId == null ? GENERATED_IDS.allocateCheeseId() : cheeseId;
+        return new Cheese(cheeseType, manufactureDate, maturityDate, expiryDate, id);
     }
 
 }
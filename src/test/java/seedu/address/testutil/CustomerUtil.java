@@ -25,6 +25,15 @@ public class CustomerUtil {
         return AddCommand.COMMAND_WORD + " " + getCustomerDetails(customer);
     }
 
+    /**
+     * Returns the add command parsed from the add command string for adding the {@code customer}, which adds the
+     * details of the {@code customer} under an id allocated when it is executed.
+     */
+    public static AddCommand getParsedAddCommand(Customer customer) {
+        return new AddCommand(customer.getName(), customer.getPhone(), customer.getEmail(), customer.getAddress(),
+                customer.getTags());
+    }
+
     /**
      * Returns the part of command string for the given {@code customer}'s details.
      */
@@ -78,7 +78,7 @@ public class EditCustomerDescriptorBuilder {
      * Sets the {@code customerId} of the {@code EditCustomerDescriptor} that we are building.
      */
     public EditCustomerDescriptorBuilder withId(int customerId) {
-        descriptor.setId(CustomerId.getNextId(customerId));
+        descriptor.setId(new CustomerId(customerId));
         return this;
     }
 
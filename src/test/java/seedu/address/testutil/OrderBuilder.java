@@ -1,5 +1,10 @@
 package seedu.address.testutil;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.IdAllocator;
+import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.CompletedDate;
@@ -17,14 +22,18 @@ public class OrderBuilder {
     public static final int DEFAULT_QUANTITY = 1;
     public static final String DEFAULT_ORDER_DATE = "2021-02-03 12:00";
     public static final String DEFAULT_COMPLETED_DATE = "2021-03-04 15:00";
-    public static final CustomerId DEFAULT_CUSTOMER_ID = CustomerId.getNextId(1);
+    public static final CustomerId DEFAULT_CUSTOMER_ID = new CustomerId(1);
 
     private CheeseType cheeseType;
     private Quantity quantity;
     private OrderDate orderDate;
     private CompletedDate completedDate;
+    // Hands out the ids of orders built without one, above the ids of the typical orders
+    private static final IdAllocator GENERATED_IDS = new IdAllocator(1000);
+
     private OrderId orderId;
     private CustomerId customerId;
+    private Set<CheeseId> cheeses;
 
     /**
      * Creates a {@code OrderBuilder} with the default details.
@@ -36,6 +45,7 @@ public class OrderBuilder {
         this.completedDate = new CompletedDate(DEFAULT_COMPLETED_DATE);
         this.orderId = null;
         this.customerId = DEFAULT_CUSTOMER_ID;
+        this.cheeses = new HashSet<>();
     }
 
     /**
@@ -49,6 +59,7 @@ public class OrderBuilder {
         this.completedDate = orderToCopy.getCompletedDate();
         this.orderId = orderToCopy.getOrderId();
         this.customerId = orderToCopy.getCustomerId();
+        this.cheeses = new HashSet<>(orderToCopy.getCheeses());
     }
 
     /**
@@ -83,6 +94,14 @@ public class OrderBuilder {
         return this;
     }
 
+    /**
+     * Leaves the {@code Order} that we are building without a {@code CompletedDate}, as a pending order.
+     */
+    public OrderBuilder withoutCompletedDate() {
+        this.completedDate = null;
+        return this;
+    }
+
     /**
      * Sets the {@code OrderId} of the {@code Order} that we are building.
      */
@@ -107,16 +126,24 @@ public class OrderBuilder {
         return this;
     }
 
+    /**
+     * Sets the cheeses assigned to the {@code Order} that we are building.
+     */
+    public OrderBuilder withCheeses(CheeseId... cheeseIds) {
+        this.cheeses = new HashSet<>();
+        for (CheeseId cheeseId : cheeseIds) {
+            this.cheeses.add(cheeseId);
+        }
+        return this;
+    }
+
     /**
      * Returns the immutable {@code Order} object representing the data we have.
      * @return an {@code Order} representation of data
      */
     public Order build() {
-        if (orderId == null) {
-            return new Order(cheeseType, quantity, orderDate, completedDate, customerId);
-        } else {
-            return new Order(cheeseType, quantity, orderDate, completedDate, orderId, customerId);
-        }
+        OrderId id = orderId == null ? GENERATED_IDS.allocateOrderId() : orderId;
+        return new Order(cheeseType, quantity, orderDate, completedDate, cheeses, id, customerId);
     }
 
 }
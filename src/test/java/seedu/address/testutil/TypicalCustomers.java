@@ -15,8 +15,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import seedu.address.model.CustomerIdStub;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 
 /**
  * A utility class containing a list of {@code Customer} objects to be used in tests.
@@ -27,43 +27,43 @@ public class TypicalCustomers {
             .withAddress("123, Jurong West Ave 6, #08-111").withEmail("alice@example.com")
             .withPhone("94351253")
             .withTags("friends")
-            .withId(CustomerIdStub.getNextId(1)).build();
+            .withId(new CustomerId(1)).build();
     public static final Customer BENSON = new CustomerBuilder().withName("Benson Meier")
             .withAddress("311, Clementi Ave 2, #02-25")
             .withEmail("johnd@example.com").withPhone("98765432")
             .withTags("owesMoney", "friends")
-            .withId(CustomerIdStub.getNextId(2)).build();
+            .withId(new CustomerId(2)).build();
     public static final Customer CARL = new CustomerBuilder().withName("Carl Kurz").withPhone("95352563")
             .withEmail("heinz@example.com").withAddress("wall street")
-            .withId(CustomerIdStub.getNextId(3)).build();
+            .withId(new CustomerId(3)).build();
     public static final Customer DANIEL = new CustomerBuilder().withName("Daniel Meier").withPhone("87652533")
             .withEmail("cornelia@example.com").withAddress("10th street").withTags("friends")
-            .withId(CustomerIdStub.getNextId(4)).build();
+            .withId(new CustomerId(4)).build();
     public static final Customer ELLE = new CustomerBuilder().withName("Elle Meyer").withPhone("9482224")
             .withEmail("werner@example.com").withAddress("michegan ave")
-            .withId(CustomerIdStub.getNextId(5)).build();
+            .withId(new CustomerId(5)).build();
     public static final Customer FIONA = new CustomerBuilder().withName("Fiona Kunz").withPhone("9482427")
             .withEmail("lydia@example.com").withAddress("little tokyo")
-            .withId(CustomerIdStub.getNextId(6)).build();
+            .withId(new CustomerId(6)).build();
     public static final Customer GEORGE = new CustomerBuilder().withName("George Best").withPhone("9482442")
             .withEmail("anna@example.com").withAddress("4th street")
-            .withId(CustomerIdStub.getNextId(7)).build();
+            .withId(new CustomerId(7)).build();
 
     // Manually added
     public static final Customer HOON = new CustomerBuilder().withName("Hoon Meier").withPhone("8482424")
             .withEmail("stefan@example.com").withAddress("little india")
-            .withId(CustomerIdStub.getNextId(8)).build();
+            .withId(new CustomerId(8)).build();
     public static final Customer IDA = new CustomerBuilder().withName("Ida Mueller").withPhone("8482131")
             .withEmail("hans@example.com").withAddress("chicago ave")
-            .withId(CustomerIdStub.getNextId(9)).build();
+            .withId(new CustomerId(9)).build();
 
     // Manually added - Customer's details found in {@code CommandTestUtil}
     public static final Customer AMY = new CustomerBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)
             .withEmail(VALID_EMAIL_AMY).withAddress(VALID_ADDRESS_AMY).withTags(VALID_TAG_FRIEND)
-            .withId(CustomerIdStub.getNextId(10)).build();
+            .withId(new CustomerId(10)).build();
     public static final Customer BOB = new CustomerBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
             .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND)
-            .withId(CustomerIdStub.getNextId(11)).build();
+            .withId(new CustomerId(11)).build();
 
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER
 